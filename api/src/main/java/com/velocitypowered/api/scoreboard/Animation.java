@@ -0,0 +1,123 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A sequence of frames cycled in a fixed interval, which can be displayed as objective titles,
+ * team prefixes and suffixes and sidebar titles and lines of any amount of players.
+ * <p>
+ * Frames are serialized only once for each protocol version and all animations are driven by a single
+ * shared timer, which sends changes of all animations due at the same time to each player together.
+ * Frame changes do not fire update events. Subscriptions of unregistered objectives and teams and of
+ * players who left are removed automatically.
+ */
+public interface Animation {
+
+    /**
+     * Returns frames of this animation.
+     *
+     * @return  Frames of this animation
+     */
+    @NotNull
+    List<TextHolder> getFrames();
+
+    /**
+     * Returns interval between frames in milliseconds, rounded up to a multiple of 50.
+     *
+     * @return  Interval between frames in milliseconds
+     */
+    int getInterval();
+
+    /**
+     * Displays this animation as title of given objective.
+     *
+     * @param   objective
+     *          Objective to animate title of
+     * @return  Subscription for stopping the animation of the title
+     */
+    @NotNull
+    Subscription animateTitle(@NonNull ProxyObjective objective);
+
+    /**
+     * Displays this animation as prefix of given team.
+     *
+     * @param   team
+     *          Team to animate prefix of
+     * @return  Subscription for stopping the animation of the prefix
+     */
+    @NotNull
+    Subscription animatePrefix(@NonNull ProxyTeam team);
+
+    /**
+     * Displays this animation as suffix of given team.
+     *
+     * @param   team
+     *          Team to animate suffix of
+     * @return  Subscription for stopping the animation of the suffix
+     */
+    @NotNull
+    Subscription animateSuffix(@NonNull ProxyTeam team);
+
+    /**
+     * Displays this animation as title of given sidebar.
+     *
+     * @param   sidebar
+     *          Sidebar to animate title of
+     * @return  Subscription for stopping the animation of the title
+     */
+    @NotNull
+    Subscription animateSidebarTitle(@NonNull Sidebar sidebar);
+
+    /**
+     * Displays this animation as line of given sidebar. Frames are only shown while the sidebar
+     * has a line at this index, setting lines of the sidebar overrides the current frame.
+     *
+     * @param   sidebar
+     *          Sidebar to animate line of
+     * @param   index
+     *          Index of the line, from the top
+     * @return  Subscription for stopping the animation of the line
+     */
+    @NotNull
+    Subscription animateSidebarLine(@NonNull Sidebar sidebar, int index);
+
+    /**
+     * Stops this animation and removes all its subscriptions. Currently displayed frames stay.
+     */
+    void stop();
+
+    /**
+     * Display of an animation in a single place.
+     */
+    interface Subscription {
+
+        /**
+         * Stops updating the animated text. Currently displayed frame stays.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.OptionalInt;
+
+/**
+ * An objective shown to every player connected to the proxy, holding one score per online player.
+ * Unlike a {@link ProxyObjective}, which belongs to a single viewer, a global objective keeps each
+ * value only once and sends every change to all players, making it a fit for values such as ping,
+ * kills or level displayed in player list or below name.
+ */
+public interface GlobalObjective {
+
+    /**
+     * Returns name of this objective.
+     *
+     * @return  Name of this objective
+     */
+    @NotNull
+    String getName();
+
+    /**
+     * Returns display slot this objective is displayed in.
+     *
+     * @return  Display slot of this objective
+     */
+    @NotNull
+    DisplaySlot getDisplaySlot();
+
+    /**
+     * Sets score of given player to specified value and sends the change to all players.
+     * If the player is not connected anymore, nothing happens.
+     *
+     * @param   player
+     *          Player to set score of
+     * @param   score
+     *          New score value
+     */
+    void setScore(@NonNull Player player, int score);
+
+    /**
+     * Returns score of given player, or empty if the player does not have a score in this objective.
+     *
+     * @param   player
+     *          Player to get score of
+     * @return  Score of given player, empty if not present
+     */
+    @NotNull
+    OptionalInt getScore(@NonNull Player player);
+
+    /**
+     * Removes score of given player and sends the change to all players.
+     *
+     * @param   player
+     *          Player to remove score of
+     */
+    void removeScore(@NonNull Player player);
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A placeholder which can be used in templates bound using {@link ScoreboardTemplates}. Values are
+ * cached and only computed again when the provider publishes a change by calling {@link #update()}
+ * or {@link #update(Player)}. Only templates containing a placeholder whose value actually changed
+ * are rendered again.
+ * <p>
+ * Shared placeholders have the same value for all players, which is computed once and cached for all
+ * viewers. Player placeholders have a value for each viewer, computed when the viewer first needs it.
+ */
+public interface Placeholder {
+
+    /**
+     * Returns identifier of this placeholder including the percent signs, such as {@code %online%}.
+     *
+     * @return  Identifier of this placeholder
+     */
+    @NotNull
+    String getIdentifier();
+
+    /**
+     * Returns {@code true} if this placeholder has the same value for all players, {@code false} if not.
+     *
+     * @return  {@code true} if value is shared, {@code false} if it is computed for each player
+     */
+    boolean isShared();
+
+    /**
+     * Computes the value again for all players, rendering templates of players whose value changed.
+     */
+    void update();
+
+    /**
+     * Computes the value again for given player, rendering templates of the player if it changed.
+     * For shared placeholders, this is the same as {@link #update()}.
+     *
+     * @param   player
+     *          Player whose value may have changed
+     */
+    void update(@NonNull Player player);
+}
@@ -26,6 +26,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -88,6 +89,46 @@ public interface ProxyObjective extends Objective {
     @NotNull
     Collection<ProxyScore> getAllScores();
 
+    /**
+     * Returns rank of given holder in this objective, where scores are ordered the same way
+     * as in the sidebar (highest score first, then alphabetically by holder). The highest score
+     * has rank {@code 1}. This is computed in logarithmic time without sorting all scores.
+     *
+     * @param   holder
+     *          Score holder name
+     * @return  Rank of the holder starting from {@code 1}, or {@code -1} if the holder has no score
+     * @see     #getTopScores(int)
+     */
+    int getRank(@NonNull String holder);
+
+    /**
+     * Returns up to {@code limit} highest scores in this objective, ordered the same way
+     * as in the sidebar.
+     *
+     * @param   limit
+     *          Maximum amount of scores to return
+     * @return  Highest scores, starting with the highest one
+     * @see     #getRank(String)
+     * @see     #getScoresInRange(int, int)
+     */
+    @NotNull
+    List<ProxyScore> getTopScores(int limit);
+
+    /**
+     * Returns scores with rank between {@code fromRank} and {@code toRank} (both inclusive),
+     * ordered the same way as in the sidebar. Ranks outside of range are ignored.
+     *
+     * @param   fromRank
+     *          Rank of the first score to return, starting from {@code 1}
+     * @param   toRank
+     *          Rank of the last score to return
+     * @return  Scores in the specified rank range
+     * @see     #getRank(String)
+     * @see     #getTopScores(int)
+     */
+    @NotNull
+    List<ProxyScore> getScoresInRange(int fromRank, int toRank);
+
     /**
      * Creates or updates a score with the given holder and customization options.
      *
@@ -100,6 +141,22 @@ public interface ProxyObjective extends Objective {
     @NotNull
     ProxyScore setScore(@NonNull String holder, @NonNull Consumer<ProxyScore.Builder> consumer);
 
+    /**
+     * Creates or updates a score with the given holder, only changing the score value.
+     * Unlike {@link #setScore(String, Consumer)}, this does not create any builder, which
+     * makes it suitable for scores updated very frequently.
+     *
+     * @param   holder
+     *          Score holder name
+     * @param   score
+     *          New score value
+     * @return  The registered or updated score
+     * @see     #getScore(String)
+     * @see     #removeScore(String)
+     */
+    @NotNull
+    ProxyScore setScore(@NonNull String holder, int score);
+
     /**
      * Removes score of given holder.
      * 
@@ -187,4 +187,62 @@ public interface ProxyScoreboard extends Scoreboard {
      *          If no such team exists
      */
     void unregisterTeam(@NonNull String teamName) throws IllegalStateException;
+
+    /**
+     * Returns tablist order of this scoreboard, which sorts entries in tablist using teams.
+     *
+     * @return  Tablist order of this scoreboard
+     */
+    @NotNull
+    TabListOrder getTabListOrder();
+
+    /**
+     * Returns sidebar of this scoreboard, which displays lines of text in sidebar display slot.
+     *
+     * @return  Sidebar of this scoreboard
+     */
+    @NotNull
+    Sidebar getSidebar();
+
+    /**
+     * Returns templates of this scoreboard, which bind text with placeholders to objectives, teams and sidebar.
+     *
+     * @return  Templates of this scoreboard
+     */
+    @NotNull
+    ScoreboardTemplates getTemplates();
+
+    /**
+     * Returns a new builder of desired state of this scoreboard for {@link #reconcile(ScoreboardState)}.
+     *
+     * @return  New state builder
+     */
+    @NotNull
+    ScoreboardState.Builder stateBuilder();
+
+    /**
+     * Changes teams and objectives of this scoreboard to match given state, sending only what differs:
+     * teams and objectives missing in this scoreboard are registered, changed properties are updated,
+     * entries and scores are added and removed as needed and unchanged ones are left untouched.
+     * Teams and objectives which are not in the state are only unregistered if they were registered by
+     * a previous reconciliation, so teams and objectives managed in other ways are kept.
+     * All packets are queued together and written to the player at once.
+     *
+     * @param   state
+     *          Desired state of this scoreboard
+     */
+    void reconcile(@NonNull ScoreboardState state);
+
+    /**
+     * Registers all teams, objectives and scores of given template into this scoreboard. Packets of the
+     * template are encoded in advance and shared with all players on the same version, and are queued
+     * together and written to the player at once. No register events are fired. Teams share their
+     * properties and entries with the template until they are modified.
+     *
+     * @param   template
+     *          Template to apply
+     * @throws  IllegalStateException
+     *          If a team or an objective with the same name as in the template already exists in this scoreboard
+     */
+    void applyTemplate(@NonNull ScoreboardTemplate template);
 }
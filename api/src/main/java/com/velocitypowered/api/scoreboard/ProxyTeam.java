@@ -44,6 +44,15 @@ public interface ProxyTeam extends Team {
      */
     void setDisplayName(@NonNull TextHolder displayName);
 
+    /**
+     * Returns {@code true} if this team only exists to style nametags, {@code false} if not.
+     * When interest scoping is enabled, entries of such teams are only sent to the viewer
+     * if they are players connected to the same backend server as the viewer.
+     *
+     * @return  {@code true} if this team only styles nametags, {@code false} if not
+     */
+    boolean isNametagOnly();
+
     /**
      * Sets team prefix to new value.
      *
@@ -142,6 +151,27 @@ public interface ProxyTeam extends Team {
      */
     void removeEntry(@NonNull String entry) throws IllegalArgumentException;
 
+    /**
+     * Adds entries to this team using a single packet. They will be removed from all other teams.
+     *
+     * @param   entries
+     *          Entries to add
+     * @see     #addEntry(String)
+     */
+    void addEntries(@NonNull Collection<String> entries);
+
+    /**
+     * Removes entries from this team using a single packet. If any of the entries
+     * is not present, throws {@link IllegalArgumentException} without removing any.
+     *
+     * @param   entries
+     *          Entries to remove
+     * @see     #removeEntry(String)
+     * @throws  IllegalArgumentException
+     *          If any of given entries is not in this team
+     */
+    void removeEntries(@NonNull Collection<String> entries) throws IllegalArgumentException;
+
     /**
      * This is a builder for team properties.
      */
@@ -313,6 +343,18 @@ public interface ProxyTeam extends Team {
         @NotNull
         Builder canSeeFriendlyInvisibles(boolean canSeeFriendlyInvisibles);
 
+        /**
+         * Marks the team as only used for styling nametags. When interest scoping is enabled,
+         * entries of such teams are only sent to the viewer if they are players connected
+         * to the same backend server as the viewer.
+         *
+         * @param   nametagOnly
+         *          Whether the team only styles nametags
+         * @return  this, for chaining
+         */
+        @NotNull
+        Builder nametagOnly(boolean nametagOnly);
+
         /**
          * Adds specified entry into the team.
          *
@@ -0,0 +1,90 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Nametag styles which differ between viewers, such as teammates in green and enemies in red,
+ * or hidden nametags of vanished staff. A rule decides which style each viewer sees on each
+ * target, and every style is a team registered for viewers who see it on someone.
+ * <p>
+ * Results of the rule are remembered for each pair of players. When attributes used by the rule
+ * change for a player, call {@link #update(Player)} to evaluate the rule again only for pairs
+ * containing that player. Changed entries are sent to each viewer in one packet per team.
+ * Players managed by this should not be added into other teams, as an entry can only be in one team.
+ */
+public interface RelationalNametags {
+
+    /**
+     * Returns name of this instance, used as prefix of team names.
+     *
+     * @return  Name of this instance
+     */
+    @NotNull
+    String getName();
+
+    /**
+     * Evaluates the rule again for given player as a viewer of all players and for all players
+     * as viewers of given player, sending changed styles.
+     *
+     * @param   player
+     *          Player whose attributes changed
+     */
+    void update(@NonNull Player player);
+
+    /**
+     * Evaluates the rule again for all pairs of players, sending changed styles.
+     */
+    void updateAll();
+
+    /**
+     * Returns style viewer currently sees on target, {@code -1} if none.
+     *
+     * @param   viewer
+     *          Player viewing the nametag
+     * @param   target
+     *          Player the nametag belongs to
+     * @return  Index of style viewer sees on target, {@code -1} if none
+     */
+    int getStyle(@NonNull Player viewer, @NonNull Player target);
+
+    /**
+     * Rule deciding which style a viewer sees on a target. It is called while holding
+     * a lock and should only check attributes of the players.
+     */
+    @FunctionalInterface
+    interface Rule {
+
+        /**
+         * Returns index of style viewer should see on target, {@code -1} for none.
+         *
+         * @param   viewer
+         *          Player viewing the nametag
+         * @param   target
+         *          Player the nametag belongs to
+         * @return  Index of style to use, {@code -1} for none
+         */
+        int getStyle(@NotNull Player viewer, @NotNull Player target);
+    }
+}
@@ -20,12 +20,20 @@
 
 package com.velocitypowered.api.scoreboard;
 
+import com.velocitypowered.api.TextHolder;
 import com.velocitypowered.api.proxy.Player;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * Entrypoint for the Velocity Scoreboard API.
  */
@@ -77,6 +85,171 @@ public abstract class ScoreboardManager {
     @NotNull
     public abstract Scoreboard getBackendScoreboard(@NonNull Player player);
 
+    /**
+     * Registers a new objective shown to all players connected to the proxy, including
+     * players who join later. Scores are set per player using {@link GlobalObjective#setScore(Player, int)}.
+     *
+     * @param   name
+     *          Objective name, up to 16 characters on 1.20.2 and below
+     * @param   title
+     *          Objective title
+     * @param   healthDisplay
+     *          Health display of the objective
+     * @param   displaySlot
+     *          Display slot to display the objective in
+     * @return  Registered objective
+     * @throws  IllegalArgumentException
+     *          If a global objective with this name already exists
+     */
+    @NotNull
+    public abstract GlobalObjective registerGlobalObjective(@NonNull String name, @NonNull TextHolder title,
+                                                            @NonNull HealthDisplay healthDisplay, @NonNull DisplaySlot displaySlot);
+
+    /**
+     * Unregisters global objective with given name and removes it from all players.
+     * If no such objective exists, nothing happens.
+     *
+     * @param   name
+     *          Name of objective to unregister
+     */
+    public abstract void unregisterGlobalObjective(@NonNull String name);
+
+    /**
+     * Returns global objective with given name, {@code null} if no such objective exists.
+     *
+     * @param   name
+     *          Name of objective to get
+     * @return  Global objective with given name, {@code null} if not present
+     */
+    @Nullable
+    public abstract GlobalObjective getGlobalObjective(@NonNull String name);
+
+    /**
+     * Returns all registered global objectives.
+     *
+     * @return  All registered global objectives
+     */
+    @NotNull
+    public abstract Collection<? extends GlobalObjective> getGlobalObjectives();
+
+    /**
+     * Registers relational nametags, which show each viewer a style decided by given rule on each player.
+     * Every style is a team named after the name with style index appended, registered for viewers who need it.
+     * Rule is evaluated for all players when registered and once a player joins, after that only when
+     * {@link RelationalNametags#update(com.velocitypowered.api.proxy.Player)} is called.
+     *
+     * @param   name
+     *          Name used as prefix of team names, with enough room left for style index within 16 characters
+     * @param   styles
+     *          Properties of teams of each style, indexed by values returned by the rule
+     * @param   rule
+     *          Rule deciding which style viewer sees on target
+     * @return  Registered relational nametags
+     * @throws  IllegalArgumentException
+     *          If relational nametags with this name already exist or the name is too long
+     */
+    @NotNull
+    public abstract RelationalNametags registerRelationalNametags(@NonNull String name,
+                                                                  @NonNull List<Consumer<ProxyTeam.PropertyBuilder>> styles,
+                                                                  @NonNull RelationalNametags.Rule rule);
+
+    /**
+     * Unregisters relational nametags with given name, unregistering their teams from all players.
+     * If no such instance exists, nothing happens.
+     *
+     * @param   name
+     *          Name of relational nametags to unregister
+     */
+    public abstract void unregisterRelationalNametags(@NonNull String name);
+
+    /**
+     * Creates an animation cycling given frames. Frames are serialized once for each protocol version
+     * and displayed using subscriptions created by the animation, until it is stopped.
+     *
+     * @param   frames
+     *          Frames of the animation
+     * @param   interval
+     *          Interval between frames in milliseconds, rounded up to a multiple of 50
+     * @return  Created animation
+     * @throws  IllegalArgumentException
+     *          If there are no frames or interval is not positive
+     */
+    @NotNull
+    public abstract Animation createAnimation(@NonNull List<TextHolder> frames, int interval);
+
+    /**
+     * Registers a placeholder with the same value for all players. The value is computed on registration
+     * and then only when {@link Placeholder#update()} is called.
+     *
+     * @param   identifier
+     *          Identifier including the percent signs, such as {@code %online%}
+     * @param   supplier
+     *          Supplier of the value
+     * @return  Registered placeholder
+     * @throws  IllegalArgumentException
+     *          If a placeholder with this identifier already exists or the identifier is invalid
+     */
+    @NotNull
+    public abstract Placeholder registerPlaceholder(@NonNull String identifier, @NonNull Supplier<String> supplier);
+
+    /**
+     * Registers a placeholder with a value for each player. The value is computed when the player first
+     * needs it and then only when {@link Placeholder#update(Player)} or {@link Placeholder#update()} is called.
+     *
+     * @param   identifier
+     *          Identifier including the percent signs, such as {@code %player_ping%}
+     * @param   function
+     *          Function computing the value for a player
+     * @return  Registered placeholder
+     * @throws  IllegalArgumentException
+     *          If a placeholder with this identifier already exists or the identifier is invalid
+     */
+    @NotNull
+    public abstract Placeholder registerPlayerPlaceholder(@NonNull String identifier, @NonNull Function<Player, String> function);
+
+    /**
+     * Unregisters placeholder with given identifier. Templates containing it keep displaying its last value.
+     * If no such placeholder exists, nothing happens.
+     *
+     * @param   identifier
+     *          Identifier of placeholder to unregister
+     */
+    public abstract void unregisterPlaceholder(@NonNull String identifier);
+
+    /**
+     * Creates an immutable template of teams, objectives and scores, which can be applied to proxy scoreboards
+     * of new players using {@link ProxyScoreboard#applyTemplate(ScoreboardTemplate)}. The content is validated
+     * once here instead of for each player.
+     *
+     * @param   consumer
+     *          Consumer adding teams, objectives and scores to the template
+     * @return  Created template
+     * @throws  IllegalArgumentException
+     *          If a score was added to an objective which is not in the template, an entry is in more
+     *          than one team or more than one objective is in the same display slot
+     */
+    @NotNull
+    public abstract ScoreboardTemplate createTemplate(@NonNull Consumer<ScoreboardState.Builder> consumer);
+
+    /**
+     * Renders personalized content for given viewers in parallel. Viewers are partitioned by their event loop,
+     * states of viewers are computed on a work-stealing pool and once a partition is computed, states of all its
+     * viewers are applied in a single task on their event loop. Viewers who are no longer connected are skipped.
+     * <p>
+     * If rendering or applying fails for some viewers, the rest is still rendered and the returned future
+     * completes exceptionally with the first failure.
+     *
+     * @param   viewers
+     *          Viewers to render content for
+     * @param   renderer
+     *          Renderer computing and applying the content
+     * @param   <T>
+     *          Type of rendered state
+     * @return  Future completed once states of all viewers are applied
+     */
+    @NotNull
+    public abstract <T> CompletableFuture<Void> render(@NonNull Collection<? extends Player> viewers, @NonNull ViewerRenderer<T> renderer);
+
     /**
      * An exception indicating the plugin has been accessed before it has been registered.
      */
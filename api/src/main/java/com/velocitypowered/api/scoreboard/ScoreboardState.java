@@ -0,0 +1,121 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Declarative snapshot of teams and objectives a proxy scoreboard should contain, applied using
+ * {@link ProxyScoreboard#reconcile(ScoreboardState)}. Properties not set in builders have the same
+ * default values as when registering a team or objective.
+ */
+public interface ScoreboardState {
+
+    /**
+     * Returns names of teams in this state.
+     *
+     * @return  Names of teams in this state
+     */
+    @NotNull
+    Set<String> getTeamNames();
+
+    /**
+     * Returns names of objectives in this state.
+     *
+     * @return  Names of objectives in this state
+     */
+    @NotNull
+    Set<String> getObjectiveNames();
+
+    /**
+     * Builder of scoreboard state.
+     */
+    interface Builder {
+
+        /**
+         * Adds team with given name, properties and entries to the state.
+         *
+         * @param   name
+         *          Name of the team
+         * @param   consumer
+         *          Consumer setting properties and entries of the team
+         * @return  this, for chaining
+         */
+        @NotNull
+        Builder team(@NonNull String name, @NonNull Consumer<ProxyTeam.Builder> consumer);
+
+        /**
+         * Adds objective with given name and properties to the state.
+         *
+         * @param   name
+         *          Name of the objective
+         * @param   consumer
+         *          Consumer setting properties of the objective
+         * @return  this, for chaining
+         */
+        @NotNull
+        Builder objective(@NonNull String name, @NonNull Consumer<ProxyObjective.Builder> consumer);
+
+        /**
+         * Adds score to an objective of the state.
+         *
+         * @param   objective
+         *          Name of the objective, which must be added to the state as well
+         * @param   holder
+         *          Score holder
+         * @param   consumer
+         *          Consumer setting properties of the score
+         * @return  this, for chaining
+         */
+        @NotNull
+        Builder score(@NonNull String objective, @NonNull String holder, @NonNull Consumer<ProxyScore.Builder> consumer);
+
+        /**
+         * Adds score with given value to an objective of the state.
+         *
+         * @param   objective
+         *          Name of the objective, which must be added to the state as well
+         * @param   holder
+         *          Score holder
+         * @param   value
+         *          Score value
+         * @return  this, for chaining
+         */
+        @NotNull
+        default Builder score(@NonNull String objective, @NonNull String holder, int value) {
+            return score(objective, holder, score -> score.score(value));
+        }
+
+        /**
+         * Builds the state.
+         *
+         * @return  Built state
+         * @throws  IllegalArgumentException
+         *          If a score was added to an objective which is not in the state
+         */
+        @NotNull
+        ScoreboardState build();
+    }
+}
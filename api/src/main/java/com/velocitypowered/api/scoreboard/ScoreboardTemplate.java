@@ -0,0 +1,50 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Immutable set of teams, objectives and scores created using {@link ScoreboardManager#createTemplate},
+ * applied to proxy scoreboards of new players using {@link ProxyScoreboard#applyTemplate(ScoreboardTemplate)}.
+ * The template is validated once when created and its packets are only encoded once for each protocol version.
+ * Teams created from it share their properties and entries until they are modified for a specific player.
+ */
+public interface ScoreboardTemplate {
+
+    /**
+     * Returns names of teams in this template.
+     *
+     * @return  Names of teams in this template
+     */
+    @NotNull
+    Set<String> getTeamNames();
+
+    /**
+     * Returns names of objectives in this template.
+     *
+     * @return  Names of objectives in this template
+     */
+    @NotNull
+    Set<String> getObjectiveNames();
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Templates of a scoreboard. A template is text containing identifiers of registered placeholders,
+ * such as {@code "Online: %online%"}, bound to a text of the scoreboard. Templates are rendered
+ * when bound and then only when a placeholder they contain changes value. Rendered text is compared
+ * to the previous one and only sent if it differs. Text which is not an identifier of a registered
+ * placeholder, including placeholders registered after the template was bound, is displayed as is.
+ */
+public interface ScoreboardTemplates {
+
+    /**
+     * Binds template to title of given objective.
+     *
+     * @param   objective
+     *          Objective to display the template as title of
+     * @param   template
+     *          Template to display
+     * @return  Binding for stopping updates of the title
+     */
+    @NotNull
+    Binding bindTitle(@NonNull ProxyObjective objective, @NonNull String template);
+
+    /**
+     * Binds template to prefix of given team.
+     *
+     * @param   team
+     *          Team to display the template as prefix of
+     * @param   template
+     *          Template to display
+     * @return  Binding for stopping updates of the prefix
+     */
+    @NotNull
+    Binding bindPrefix(@NonNull ProxyTeam team, @NonNull String template);
+
+    /**
+     * Binds template to suffix of given team.
+     *
+     * @param   team
+     *          Team to display the template as suffix of
+     * @param   template
+     *          Template to display
+     * @return  Binding for stopping updates of the suffix
+     */
+    @NotNull
+    Binding bindSuffix(@NonNull ProxyTeam team, @NonNull String template);
+
+    /**
+     * Binds template to title of the sidebar.
+     *
+     * @param   template
+     *          Template to display
+     * @return  Binding for stopping updates of the title
+     */
+    @NotNull
+    Binding bindSidebarTitle(@NonNull String template);
+
+    /**
+     * Binds templates to lines of the sidebar, from top to bottom. When a placeholder changes,
+     * only lines containing it are rendered again.
+     *
+     * @param   templates
+     *          Templates of lines to display
+     * @return  Binding for stopping updates of the lines
+     * @throws  IllegalArgumentException
+     *          If there are more than {@link Sidebar#MAX_LINES} lines
+     */
+    @NotNull
+    Binding bindSidebarLines(@NonNull List<String> templates) throws IllegalArgumentException;
+
+    /**
+     * A template bound to a text of the scoreboard.
+     */
+    interface Binding {
+
+        /**
+         * Stops rendering the template. Currently displayed text stays.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A sidebar made of lines of text, built on top of a proxy objective. Every time lines are set,
+ * they are compared to the previous ones and only changed lines are sent. Lines are rendered in the
+ * cheapest way the viewer's version supports: as score display names without numbers on 1.20.3+,
+ * and as team prefixes of invisible score holders on older versions, where numbers cannot be hidden
+ * and line length is limited to 16 characters below 1.13.
+ */
+public interface Sidebar {
+
+    /** Maximum amount of lines the client can display */
+    int MAX_LINES = 15;
+
+    /**
+     * Returns title of the sidebar.
+     *
+     * @return  Title of the sidebar
+     */
+    @NotNull
+    TextHolder getTitle();
+
+    /**
+     * Sets title of the sidebar.
+     *
+     * @param   title
+     *          New title
+     */
+    void setTitle(@NonNull TextHolder title);
+
+    /**
+     * Returns lines currently displayed, from top to bottom.
+     *
+     * @return  Current lines
+     */
+    @NotNull
+    List<TextHolder> getLines();
+
+    /**
+     * Sets lines to display, from top to bottom. Only lines which differ from currently displayed
+     * lines at the same position are sent. Setting an empty list hides the sidebar.
+     *
+     * @param   lines
+     *          Lines to display
+     * @throws  IllegalArgumentException
+     *          If there are more than {@link #MAX_LINES} lines
+     */
+    void setLines(@NonNull List<TextHolder> lines) throws IllegalArgumentException;
+}
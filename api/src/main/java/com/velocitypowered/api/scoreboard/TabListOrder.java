@@ -0,0 +1,105 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Sorts entries in tablist by putting each of them into its own team, with team names ordered
+ * the same way as sort keys of the entries. Team names are assigned with gaps between them, so
+ * adding an entry or changing its sort key usually only creates a single team. Only when there is
+ * no gap left, nearby entries get new team names.
+ * <p>
+ * Teams created by this order can be modified like any other team, for example to set a prefix.
+ * However, when an entry gets a new team name, its team is replaced by a new one with the same
+ * properties. Always get the current team of an entry using {@link #getTeam(String)}.
+ */
+public interface TabListOrder {
+
+    /**
+     * Sets sort key of an entry, adding it into the order if it is not present yet. Entries are
+     * sorted by sort key first and by entry name if sort keys are equal.
+     *
+     * @param   entry
+     *          Entry to set sort key of
+     * @param   sortKey
+     *          Sort key of the entry
+     * @return  Team the entry is in after this change
+     */
+    @NotNull
+    ProxyTeam setSortKey(@NonNull String entry, @NonNull String sortKey);
+
+    /**
+     * Sets sort key of a player, adding the player into the order if not present yet.
+     *
+     * @param   player
+     *          Player to set sort key of
+     * @param   sortKey
+     *          Sort key of the player
+     * @return  Team the player is in after this change
+     */
+    @NotNull
+    default ProxyTeam setSortKey(@NonNull Player player, @NonNull String sortKey) {
+        return setSortKey(player.getUsername(), sortKey);
+    }
+
+    /**
+     * Returns sort key of an entry, {@code null} if the entry is not in this order.
+     *
+     * @param   entry
+     *          Entry to get sort key of
+     * @return  Sort key of the entry, {@code null} if not present
+     */
+    @Nullable
+    String getSortKey(@NonNull String entry);
+
+    /**
+     * Returns team the entry is currently in, {@code null} if the entry is not in this order.
+     *
+     * @param   entry
+     *          Entry to get team of
+     * @return  Current team of the entry, {@code null} if not present
+     */
+    @Nullable
+    ProxyTeam getTeam(@NonNull String entry);
+
+    /**
+     * Removes an entry from this order and unregisters its team. If the entry is not
+     * in this order, nothing happens.
+     *
+     * @param   entry
+     *          Entry to remove
+     */
+    void remove(@NonNull String entry);
+
+    /**
+     * Returns all entries in this order, sorted the same way as in tablist.
+     *
+     * @return  Sorted entries of this order
+     */
+    @NotNull
+    List<String> getEntries();
+}
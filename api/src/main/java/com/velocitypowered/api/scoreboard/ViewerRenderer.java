@@ -0,0 +1,56 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.api.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Renderer of personalized scoreboard content, used by
+ * {@link ScoreboardManager#render(java.util.Collection, ViewerRenderer)}. Rendering is split into two steps:
+ * computing state of each viewer, which runs in parallel on a shared pool and must not modify
+ * any scoreboard, and applying the state to the viewer's scoreboard, which runs on the viewer's
+ * event loop together with all other viewers of the same event loop.
+ *
+ * @param   <T>
+ *          Type of rendered state
+ */
+public interface ViewerRenderer<T> {
+
+    /**
+     * Computes state of given viewer. Called in parallel for different viewers.
+     *
+     * @param   viewer
+     *          Viewer to compute state for
+     * @return  Computed state
+     */
+    T render(@NotNull Player viewer);
+
+    /**
+     * Applies previously computed state to the viewer's scoreboard. Called from the viewer's event loop.
+     *
+     * @param   scoreboard
+     *          Proxy scoreboard of the viewer
+     * @param   state
+     *          State computed for the viewer
+     */
+    void apply(@NotNull ProxyScoreboard scoreboard, T state);
+}
@@ -56,6 +56,30 @@ public class PluginConfig {
     @Comment("Whether to log invalid packets received from downstream servers")
     private boolean printInvalidDownstreamPacketWarnings = true;
 
+    @Comment("Whether to merge pending scoreboard updates for players whose connection cannot keep up, only sending the latest state")
+    private boolean coalesceUpdatesForSlowClients = true;
+
+    @Comment("Whether to reduce the rate of cosmetic scoreboard updates (scores, prefixes, titles) while the proxy is overloaded")
+    private boolean overloadShedding = true;
+
+    @Comment("Event loop lag (in milliseconds) above which the proxy is considered overloaded")
+    private int overloadLagThresholdMillis = 50;
+
+    @Comment("How often (in milliseconds) cosmetic scoreboard updates are sent while the proxy is overloaded")
+    private int overloadUpdateIntervalMillis = 250;
+
+    @Comment("Whether to drop scoreboard packets which would not change anything for the player, such as repeated team updates or scores with the same value")
+    private boolean filterRedundantPackets = false;
+
+    @Comment("Whether scores of proxy objectives which are not displayed in any slot should only be sent once the objective is displayed")
+    private boolean deferScoresUntilDisplayed = false;
+
+    @Comment("Whether proxy objectives displayed in a sidebar should only send the 15 scores visible in the sidebar instead of all of them")
+    private boolean sidebarWindowing = false;
+
+    @Comment("Whether below name scores of proxy objectives and entries of nametag-only proxy teams should only be sent to players on the same backend server")
+    private boolean interestScoping = false;
+
     @NotNull
     public static PluginConfig load(@NotNull Path directory) {
         return YamlConfigurations.update(
@@ -81,7 +81,7 @@ public class ServerSwitchManager {
         DownstreamScoreboard downstreamScoreboard = ((VelocityScoreboardManager) ScoreboardManager.getInstance()).getBackendScoreboard(player);
         VelocityScoreboard proxyScoreboard = ((VelocityScoreboardManager) ScoreboardManager.getInstance()).getProxyScoreboard(player);
         if (player.getProtocolVersion().lessThan(ProtocolVersion.MINECRAFT_1_20_5)) {
-            downstreamScoreboard.clear();
+            proxyScoreboard.getExecutor().execute(downstreamScoreboard::clear);
             proxyScoreboard.freeze();
         }
         plugin.getServer().getScheduler().buildTask(plugin, proxyScoreboard::resend).schedule();
@@ -115,8 +115,10 @@ public class ServerSwitchManager {
      */
     @Subscribe
     public void onConfigStart(@NotNull PlayerEnterConfigurationEvent e) {
-        ((DownstreamScoreboard) VelocityScoreboardManager.getInstance().getBackendScoreboard(e.player())).clear();
-        ((VelocityScoreboard) VelocityScoreboardManager.getInstance().getProxyScoreboard(e.player())).freeze();
+        DownstreamScoreboard downstreamScoreboard = (DownstreamScoreboard) VelocityScoreboardManager.getInstance().getBackendScoreboard(e.player());
+        VelocityScoreboard proxyScoreboard = (VelocityScoreboard) VelocityScoreboardManager.getInstance().getProxyScoreboard(e.player());
+        proxyScoreboard.getExecutor().execute(downstreamScoreboard::clear); // Backend packets are handled on the event loop
+        proxyScoreboard.freeze();
     }
 
     /**
@@ -25,6 +25,9 @@ import com.velocitypowered.api.command.SimpleCommand;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
+import com.velocitypowered.proxy.data.LegacyTextCache;
+import com.velocitypowered.proxy.scoreboard.OverloadController;
+import com.velocitypowered.proxy.scoreboard.RedundantPacketFilter;
 import com.velocitypowered.proxy.scoreboard.VelocityScoreboard;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
 import lombok.RequiredArgsConstructor;
@@ -55,11 +58,19 @@ public class VSACommand implements SimpleCommand {
     @Override
     public void execute(@NotNull Invocation invocation) {
         CommandSource sender = invocation.source();
+        String[] args = invocation.arguments();
+        if (args.length == 1 && args[0].equalsIgnoreCase("stats")) {
+            if (!sender.hasPermission("vsa.stats")) {
+                sender.sendMessage(Component.text("You are missing \"vsa.stats\" permission."));
+                return;
+            }
+            sendStatistics(sender);
+            return;
+        }
         if (!sender.hasPermission("vsa.dump")) {
             sender.sendMessage(Component.text("You are missing \"vsa.dump\" permission."));
             return;
         }
-        String[] args = invocation.arguments();
         if (args.length == 2) {
             if (args[0].equalsIgnoreCase("dump")) {
                 Player player = server.getPlayer(args[1]).orElse(null);
@@ -81,7 +92,26 @@ public class VSACommand implements SimpleCommand {
                 }
             }
         } else {
-            sender.sendMessage(Component.text("Usage: /vsa dump <player>"));
+            sender.sendMessage(Component.text("Usage: /vsa dump <player> | /vsa stats"));
+        }
+    }
+
+    /**
+     * Sends performance statistics of the plugin to the command sender.
+     *
+     * @param   sender
+     *          Sender to send statistics to
+     */
+    private void sendStatistics(@NotNull CommandSource sender) {
+        Map<String, Map<String, Object>> sections = new LinkedHashMap<>();
+        sections.put("Overload shedding", OverloadController.getStatistics());
+        sections.put("Redundant packet filter", RedundantPacketFilter.getStatistics());
+        sections.put("Legacy text cache", LegacyTextCache.getStatistics());
+        for (Map.Entry<String, Map<String, Object>> section : sections.entrySet()) {
+            sender.sendMessage(Component.text(section.getKey() + ":", TextColor.color(0x00aa00)));
+            for (Map.Entry<String, Object> entry : section.getValue().entrySet()) {
+                sender.sendMessage(Component.text("  " + entry.getKey() + ": " + entry.getValue()));
+            }
         }
     }
 
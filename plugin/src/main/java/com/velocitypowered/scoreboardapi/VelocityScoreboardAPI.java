@@ -30,6 +30,12 @@ import com.velocitypowered.api.proxy.ProxyServer;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
 import com.velocitypowered.proxy.ScoreboardEventSource;
 import com.velocitypowered.proxy.data.LoggerManager;
+import com.velocitypowered.proxy.event.VelocityEventManager;
+import com.velocitypowered.proxy.scoreboard.InterestManager;
+import com.velocitypowered.proxy.scoreboard.OutboundQueue;
+import com.velocitypowered.proxy.scoreboard.OverloadController;
+import com.velocitypowered.proxy.scoreboard.RedundantPacketFilter;
+import com.velocitypowered.proxy.scoreboard.VelocityObjective;
 import com.velocitypowered.proxy.scoreboard.VelocityScoreboard;
 import com.velocitypowered.proxy.scoreboard.VelocityScoreboardManager;
 import lombok.Getter;
@@ -72,6 +78,14 @@ public class VelocityScoreboardAPI implements ScoreboardEventSource {
         this.pluginConfig = PluginConfig.load(configDirectory);
 
         LoggerManager.setLogInvalidPackets(pluginConfig.isPrintInvalidDownstreamPacketWarnings());
+        OutboundQueue.setCoalesceWhenUnwritable(pluginConfig.isCoalesceUpdatesForSlowClients());
+        OverloadController.setEnabled(pluginConfig.isOverloadShedding());
+        OverloadController.setLagThresholdMillis(pluginConfig.getOverloadLagThresholdMillis());
+        OverloadController.setCosmeticUpdateIntervalMillis(pluginConfig.getOverloadUpdateIntervalMillis());
+        RedundantPacketFilter.setEnabled(pluginConfig.isFilterRedundantPackets());
+        VelocityObjective.setDeferScoresUntilDisplayed(pluginConfig.isDeferScoresUntilDisplayed());
+        VelocityObjective.setSidebarWindowing(pluginConfig.isSidebarWindowing());
+        InterestManager.setEnabled(pluginConfig.isInterestScoping());
 
         CommandManager cmd = server.getCommandManager();
         cmd.register(cmd.metaBuilder("vsa").build(), new VSACommand(server));
@@ -125,6 +139,13 @@ public class VelocityScoreboardAPI implements ScoreboardEventSource {
         metricsFactory.make(this, 22437);
     }
 
+    @Override
+    public boolean isFiringEvents(@NonNull Class<?> eventClass) {
+        if (!pluginConfig.isCallScoreboardEvents()) return false;
+        // Nothing to fire if no plugin listens to this event
+        return !(server.getEventManager() instanceof VelocityEventManager eventManager) || eventManager.hasSubscribers(eventClass);
+    }
+
     @Override
     public void fireEvent(@NonNull Object event) {
         if (!pluginConfig.isCallScoreboardEvents()) return;
@@ -26,4 +26,16 @@ public interface ScoreboardEventSource {
 
     void fireEvent(@NonNull Object event);
 
+    /**
+     * Returns {@code true} if events of given type are fired and something listens to them, {@code false} if
+     * {@link #fireEvent(Object)} would have no effect for them. This allows skipping event creation on hot paths.
+     *
+     * @param   eventClass
+     *          Class of the event to check
+     * @return  {@code true} if events of given type should be fired, {@code false} if not
+     */
+    default boolean isFiringEvents(@NonNull Class<?> eventClass) {
+        return true;
+    }
+
 }
@@ -0,0 +1,105 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import lombok.NonNull;
+import net.kyori.adventure.nbt.*;
+
+/**
+ * Class for computing encoded size of binary tags without writing them. If the Scoreboard API gets
+ * merged into Velocity, these methods will be moved into {@code ProtocolUtils} class.
+ */
+public class BinaryTagSize {
+
+    /**
+     * Returns size of a nameless binary tag written by {@code ProtocolUtils#writeBinaryTag}
+     * for 1.20.2+, which is type id followed by the payload.
+     *
+     * @param   tag
+     *          Tag to get size of
+     * @return  Encoded size of the tag in bytes
+     */
+    public static int of(@NonNull BinaryTag tag) {
+        return 1 + payload(tag);
+    }
+
+    /**
+     * Returns size of payload of a binary tag, which does not include type id or name.
+     *
+     * @param   tag
+     *          Tag to get payload size of
+     * @return  Encoded size of the payload in bytes
+     */
+    private static int payload(@NonNull BinaryTag tag) {
+        BinaryTagType<? extends BinaryTag> type = tag.type();
+        if (type == BinaryTagTypes.END) return 0;
+        if (type == BinaryTagTypes.BYTE) return 1;
+        if (type == BinaryTagTypes.SHORT) return 2;
+        if (type == BinaryTagTypes.INT || type == BinaryTagTypes.FLOAT) return 4;
+        if (type == BinaryTagTypes.LONG || type == BinaryTagTypes.DOUBLE) return 8;
+        if (type == BinaryTagTypes.STRING) return utfSize(((StringBinaryTag) tag).value());
+        if (type == BinaryTagTypes.BYTE_ARRAY) return 4 + ((ByteArrayBinaryTag) tag).size();
+        if (type == BinaryTagTypes.INT_ARRAY) return 4 + 4 * ((IntArrayBinaryTag) tag).size();
+        if (type == BinaryTagTypes.LONG_ARRAY) return 4 + 8 * ((LongArrayBinaryTag) tag).size();
+        if (type == BinaryTagTypes.LIST) {
+            ListBinaryTag list = (ListBinaryTag) tag;
+            int size = 5; // Element type + length
+            for (int i = 0; i < list.size(); i++) {
+                size += payload(list.get(i));
+            }
+            return size;
+        }
+        if (type == BinaryTagTypes.COMPOUND) {
+            CompoundBinaryTag compound = (CompoundBinaryTag) tag;
+            int size = 1; // End tag
+            for (String key : compound.keySet()) {
+                BinaryTag value = compound.get(key);
+                if (value == null) continue;
+                size++; // Type id
+                if (value.type() != BinaryTagTypes.END) size += utfSize(key) + payload(value);
+            }
+            return size;
+        }
+        throw new IllegalArgumentException("Unknown binary tag type " + type);
+    }
+
+    /**
+     * Returns size of a string written as modified UTF-8 with length prefix.
+     *
+     * @param   string
+     *          String to get size of
+     * @return  Encoded size of the string in bytes
+     */
+    private static int utfSize(@NonNull String string) {
+        int size = 2;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                size++;
+            } else if (c <= 0x07FF) {
+                size += 2;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import lombok.NonNull;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Global cache of legacy section serialization of components for 1.12- players.
+ * Components are compared by value, so equal components created by different plugins
+ * or for different players share the entry. Each entry also holds the text cut down to
+ * character limits used by scoreboard features, so encoding does not allocate substrings.
+ * The cache is split into stripes, each being a small LRU map with its own lock,
+ * to keep contention between event loops low.
+ */
+public class LegacyTextCache {
+
+    /** Amount of stripes, must be a power of 2 */
+    private static final int STRIPES = 16;
+
+    /** Maximum amount of entries in a single stripe */
+    private static final int MAX_ENTRIES_PER_STRIPE = 512;
+
+    /** Cache stripes */
+    private static final Stripe[] stripes = new Stripe[STRIPES];
+
+    /** Amount of lookups answered from cache */
+    private static final LongAdder hits = new LongAdder();
+
+    /** Amount of lookups which had to serialize the component */
+    private static final LongAdder misses = new LongAdder();
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Returns legacy text of given component. If not cached, it is serialized and cached.
+     *
+     * @param   component
+     *          Component to get legacy text of
+     * @return  Legacy text of the component
+     */
+    @NotNull
+    public static Entry get(@NonNull Component component) {
+        int hash = component.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        Entry entry;
+        synchronized (stripe) {
+            entry = stripe.get(component);
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        entry = Entry.of(LegacyComponentSerializer.legacySection().serialize(component));
+        synchronized (stripe) {
+            stripe.put(component, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns statistics of this cache.
+     *
+     * @return  Statistics of this cache
+     */
+    @NotNull
+    public static Map<String, Object> getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("Entries", size);
+        map.put("Hits", hitCount);
+        map.put("Misses", missCount);
+        map.put("Hit rate", hitCount + missCount == 0 ? "-" : String.format("%.1f%%", hitCount * 100d / (hitCount + missCount)));
+        return map;
+    }
+
+    /**
+     * Legacy text with pre-computed variants cut down to character limits used by scoreboard features.
+     *
+     * @param   text
+     *          Full legacy text
+     * @param   limit16
+     *          Text cut down to 16 characters (team prefix, suffix and display name)
+     * @param   limit32
+     *          Text cut down to 32 characters (objective title)
+     * @param   limit64
+     *          Text cut down to 64 characters
+     */
+    public record Entry(@NotNull String text, @NotNull String limit16, @NotNull String limit32, @NotNull String limit64) {
+
+        /**
+         * Creates new entry from given legacy text.
+         *
+         * @param   text
+         *          Full legacy text
+         * @return  Entry with pre-computed variants
+         */
+        @NotNull
+        public static Entry of(@NonNull String text) {
+            return new Entry(text, cut(text, 16), cut(text, 32), cut(text, 64));
+        }
+
+        /**
+         * Returns text cut down to given character limit.
+         *
+         * @param   charLimit
+         *          Maximum permitted character limit
+         * @return  Text cut down to the limit
+         */
+        @NotNull
+        public String get(int charLimit) {
+            return switch (charLimit) {
+                case 16 -> limit16;
+                case 32 -> limit32;
+                case 64 -> limit64;
+                default -> cut(text, charLimit);
+            };
+        }
+
+        @NotNull
+        private static String cut(@NotNull String text, int charLimit) {
+            return text.length() > charLimit ? text.substring(0, charLimit) : text;
+        }
+    }
+
+    /**
+     * A single stripe of the cache, evicting least recently used entries.
+     */
+    private static class Stripe extends LinkedHashMap<Component, Entry> {
+
+        private Stripe() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Component, Entry> eldest) {
+            return size() > MAX_ENTRIES_PER_STRIPE;
+        }
+    }
+}
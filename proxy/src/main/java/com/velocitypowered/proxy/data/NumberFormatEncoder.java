@@ -25,16 +25,34 @@ import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import lombok.NonNull;
 import net.kyori.adventure.text.serializer.nbt.NBTComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Class for encoding / decoding number formats. If the Scoreboard API gets merged into Velocity,
  * these methods will be moved into {@link ProtocolUtils} class.
  */
 public class NumberFormatEncoder {
 
+    /** Maximum amount of cached encoded formats per protocol version, cache is cleared once exceeded */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /** Encoded number formats by protocol version ordinal, formats equal by value share an entry */
+    @SuppressWarnings("unchecked")
+    private static final Map<NumberFormat, byte[]>[] cache = new Map[ProtocolVersion.values().length];
+
+    static {
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = new ConcurrentHashMap<>();
+        }
+    }
+
     /**
      * Reads NumberFormat from buffer.
      *
@@ -56,7 +74,8 @@ public class NumberFormatEncoder {
     }
 
     /**
-     * Writes a NumberFormat to buffer.
+     * Writes a NumberFormat to buffer. Encoded bytes of styled and fixed formats are cached,
+     * since serializing styles and components is expensive.
      *
      * @param   buf
      *          Buffer to write number format to
@@ -68,16 +87,62 @@ public class NumberFormatEncoder {
     public static void write(@NonNull ByteBuf buf, @NonNull ProtocolVersion ver, @NonNull NumberFormat format) {
         if (format instanceof NumberFormat.BlankFormat) {
             ProtocolUtils.writeVarInt(buf, 0);
-        } else if (format instanceof NumberFormat.StyledFormat styled) {
-            ProtocolUtils.writeVarInt(buf, 1);
-            ProtocolUtils.writeBinaryTag(buf, ver, NBTComponentSerializer.nbt().serializeStyle(styled.style()));
-        } else if (format instanceof NumberFormat.FixedFormat fixed) {
-            ProtocolUtils.writeVarInt(buf, 2);
-            new ComponentHolder(ver, fixed.component()).write(buf);
         } else if (format instanceof DeserializedFixedFormat deserialized) {
+            // Already serialized by backend, nothing to cache
             ProtocolUtils.writeVarInt(buf, 2);
             deserialized.holder.write(buf);
-        } else throw new IllegalArgumentException("Unknown number format type " + format.getClass().getName());
+        } else {
+            buf.writeBytes(encode(ver, format));
+        }
+    }
+
+    /**
+     * Returns encoded size of a NumberFormat. Formats received from backend are sized
+     * from the serialized form kept by their component holder.
+     *
+     * @param   ver
+     *          Protocol version to get size for
+     * @param   format
+     *          NumberFormat to get size of
+     * @return  Encoded size of the format in bytes
+     */
+    public static int size(@NonNull ProtocolVersion ver, @NonNull NumberFormat format) {
+        if (format instanceof NumberFormat.BlankFormat) return 1;
+        if (format instanceof DeserializedFixedFormat deserialized) return 1 + ScoreboardCodec.componentSize(ver, deserialized.holder);
+        return encode(ver, format).length;
+    }
+
+    /**
+     * Returns cached encoded bytes of a styled or fixed number format. If not cached yet, the format
+     * is encoded and cached.
+     *
+     * @param   ver
+     *          Protocol version to encode format for
+     * @param   format
+     *          NumberFormat to encode
+     * @return  Encoded bytes of the format
+     */
+    @NotNull
+    private static byte[] encode(@NonNull ProtocolVersion ver, @NonNull NumberFormat format) {
+        Map<NumberFormat, byte[]> versionCache = cache[ver.ordinal()];
+        byte[] bytes = versionCache.get(format);
+        if (bytes != null) return bytes;
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            if (format instanceof NumberFormat.StyledFormat styled) {
+                ProtocolUtils.writeVarInt(buf, 1);
+                ProtocolUtils.writeBinaryTag(buf, ver, NBTComponentSerializer.nbt().serializeStyle(styled.style()));
+            } else if (format instanceof NumberFormat.FixedFormat fixed) {
+                ProtocolUtils.writeVarInt(buf, 2);
+                new ComponentHolder(ver, fixed.component()).write(buf);
+            } else throw new IllegalArgumentException("Unknown number format type " + format.getClass().getName());
+            bytes = ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+        if (versionCache.size() >= MAX_CACHE_SIZE) versionCache.clear(); // Formats are most likely dynamic, start over
+        versionCache.put(format, bytes);
+        return bytes;
     }
 
     private record DeserializedFixedFormat(@NonNull ComponentHolder holder) implements NumberFormat {
@@ -21,19 +21,21 @@
 package com.velocitypowered.proxy.data;
 
 import com.velocitypowered.api.proxy.Player;
-import com.velocitypowered.api.scoreboard.ProxyObjective;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.connection.backend.BackendPlaySessionHandler;
 import com.velocitypowered.proxy.connection.backend.VelocityServerConnection;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
 import com.velocitypowered.proxy.scoreboard.*;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
 import lombok.NonNull;
+import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.OptionalInt;
 
 /**
  * This class handles outgoing scoreboard packets, allowing to cancel them.
@@ -71,12 +73,83 @@ public class PacketHandler {
         }
     }
     
+    private static VelocityScoreboardManager getManager() {
+        return (VelocityScoreboardManager) ScoreboardManager.getInstance();
+    }
+
     private static DownstreamScoreboard getDownstream(@NonNull MinecraftSessionHandler handler) {
-        return ((VelocityScoreboardManager)ScoreboardManager.getInstance()).getBackendScoreboard(getPlayer(handler));
+        return getManager().getBackendScoreboard(getPlayer(handler));
     }
 
     private static VelocityScoreboard getProxy(@NonNull MinecraftSessionHandler handler) {
-        return ((VelocityScoreboardManager)ScoreboardManager.getInstance()).getProxyScoreboard(getPlayer(handler));
+        return getManager().getProxyScoreboard(getPlayer(handler));
+    }
+
+    /**
+     * Checks if objective with given name is occupied by the proxy, either by the player's
+     * proxy scoreboard or by a global objective.
+     *
+     * @param   handler
+     *          Handler that received the packet
+     * @param   objectiveName
+     *          Objective name to check
+     * @return  {@code true} if objective is occupied by the proxy, {@code false} if not
+     */
+    private static boolean isProxyObjective(@NonNull MinecraftSessionHandler handler, @NonNull String objectiveName) {
+        return getProxy(handler).getObjective(objectiveName) != null || getManager().getGlobalObjective(objectiveName) != null;
+    }
+
+    /**
+     * Resends scores of a holder in proxy objectives after backend reset the holder in all objectives.
+     *
+     * @param   handler
+     *          Handler that received the packet
+     * @param   holder
+     *          Score holder that was reset
+     */
+    private static void restoreScores(@NonNull MinecraftSessionHandler handler, @NonNull String holder) {
+        for (VelocityObjective objective : getProxy(handler).getObjectivesByScoreHolder(holder)) {
+            VelocityScore score = (VelocityScore) objective.getScore(holder);
+            if (score != null) score.sendUpdate();
+        }
+        Player player = getManager().getServer().getPlayer(holder).orElse(null);
+        if (player == null) return;
+        VelocityScoreboard scoreboard = getProxy(handler);
+        for (VelocityGlobalObjective objective : getManager().getGlobalObjectives()) {
+            OptionalInt value = objective.getScore(player);
+            if (value.isPresent()) {
+                scoreboard.sendGlobalScore(objective, scoreboard.getCodec().scoreSet(holder, objective.getName(), value.getAsInt(), (Component) null, null));
+            }
+        }
+    }
+
+    /**
+     * Prepares a packet to be forwarded by writing everything the proxy queued before it first, so proxy
+     * packets built from an older backend state cannot be written after it. Then checks if the packet
+     * would not change anything on the client.
+     *
+     * @param   handler
+     *          Handler that received the packet
+     * @param   packet
+     *          Packet to be forwarded
+     * @return  {@code true} if packet should be cancelled as redundant, {@code false} if not
+     */
+    private static boolean forward(@NonNull MinecraftSessionHandler handler, @NonNull MinecraftPacket packet) {
+        getProxy(handler).writePending();
+        return isRedundant(handler, packet);
+    }
+
+    /**
+     * Checks if a packet which is about to be forwarded would not change anything on the client.
+     *
+     * @param   handler
+     *          Handler that received the packet
+     * @param   packet
+     *          Packet to be forwarded
+     * @return  {@code true} if packet should be cancelled as redundant, {@code false} if not
+     */
+    private static boolean isRedundant(@NonNull MinecraftSessionHandler handler, @NonNull MinecraftPacket packet) {
+        return getProxy(handler).getFilter().isRedundant(packet);
     }
 
     /**
@@ -92,12 +165,12 @@ public class PacketHandler {
         // Filter out invalid packets
         if (getDownstream(handler).handle(packet)) return true;
 
-        if (getProxy(handler).getObjective(packet.getPosition()) != null) {
+        if (getProxy(handler).getObjective(packet.getPosition()) != null || getManager().getGlobalObjective(packet.getPosition()) != null) {
             // This slot is occupied by proxy scoreboard, cancel packet
             return true;
         }
 
-        return false;
+        return forward(handler, packet);
     }
 
     /**
@@ -113,13 +186,12 @@ public class PacketHandler {
         // Filter out invalid packets
         if (getDownstream(handler).handle(packet)) return true;
 
-        VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
-        if (objective != null) {
+        if (isProxyObjective(handler, packet.getObjectiveName())) {
             // Proxy already contains objective with this name, cancel everything
             return true;
         }
 
-        return false;
+        return forward(handler, packet);
     }
 
     /**
@@ -136,21 +208,18 @@ public class PacketHandler {
         if (getDownstream(handler).handle(packet)) return true;
 
         if (packet.getObjectiveName() == null) {
-            // Null objective removes from all objectives, add back what was set by proxy
-            for (ProxyObjective objective : getProxy(handler).getObjectives()) {
-                VelocityScore score = (VelocityScore) objective.getScore(packet.getScoreHolder());
-                if (score != null) score.sendUpdate();
-            }
-            return false;
+            // Null objective removes from all objectives, add back what was set by proxy after it
+            getProxy(handler).writePending();
+            restoreScores(handler, packet.getScoreHolder());
+            return isRedundant(handler, packet);
         } else {
-            VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
-            if (objective != null) {
+            if (isProxyObjective(handler, packet.getObjectiveName())) {
                 // Proxy is occupying this objective, cancel packet
                 return true;
             }
         }
 
-        return false;
+        return forward(handler, packet);
     }
 
     /**
@@ -167,21 +236,18 @@ public class PacketHandler {
         if (getDownstream(handler).handle(packet)) return true;
 
         if (packet.getObjectiveName() == null) {
-            // Null objective removes from all objectives, add back what was set by proxy
-            for (ProxyObjective objective : getProxy(handler).getObjectives()) {
-                VelocityScore score = (VelocityScore) objective.getScore(packet.getScoreHolder());
-                if (score != null) score.sendUpdate();
-            }
-            return false;
+            // Null objective removes from all objectives, add back what was set by proxy after it
+            getProxy(handler).writePending();
+            restoreScores(handler, packet.getScoreHolder());
+            return isRedundant(handler, packet);
         } else {
-            VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
-            if (objective != null) {
+            if (isProxyObjective(handler, packet.getObjectiveName())) {
                 // Proxy is occupying this objective, cancel packet
                 return true;
             }
         }
 
-        return false;
+        return forward(handler, packet);
     }
 
     /**
@@ -198,13 +264,12 @@ public class PacketHandler {
         // Filter out invalid packets
         if (getDownstream(handler).handle(packet)) return true;
 
-        VelocityObjective objective = getProxy(handler).getObjective(packet.getObjectiveName());
-        if (objective != null) {
+        if (isProxyObjective(handler, packet.getObjectiveName())) {
             // Proxy is occupying this objective, cancel packet
             return true;
         }
 
-        return false;
+        return forward(handler, packet);
     }
 
     /**
@@ -244,6 +309,6 @@ public class PacketHandler {
             }
         }
 
-        return false;
+        return forward(handler, packet);
     }
 }
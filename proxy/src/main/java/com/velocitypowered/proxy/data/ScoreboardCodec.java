@@ -0,0 +1,926 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.scoreboard.NumberFormat;
+import com.velocitypowered.api.scoreboard.TeamColor;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket.ObjectiveAction;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.TeamPacket.TeamAction;
+import com.velocitypowered.proxy.scoreboard.TeamProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encoder of scoreboard packets for a single protocol version. Protocol differences are resolved
+ * once when looking up the codec instead of on every encode call. Each protocol era has its own
+ * implementation overriding only what changed compared to the previous one, so encoding does not
+ * contain any version checks. Supporting a new protocol change means adding one implementation
+ * and mapping versions to it in {@link #create(ProtocolVersion)}.
+ * Decoding is not handled here, as it only runs for packets coming from backend servers.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class ScoreboardCodec {
+
+    /** Codec instances by protocol version ordinal */
+    private static final ScoreboardCodec[] CODECS;
+
+    static {
+        ProtocolVersion[] versions = ProtocolVersion.values();
+        CODECS = new ScoreboardCodec[versions.length];
+        for (ProtocolVersion version : versions) {
+            CODECS[version.ordinal()] = create(version);
+        }
+    }
+
+    /** Protocol version this codec encodes for */
+    @NotNull
+    @Getter
+    protected final ProtocolVersion version;
+
+    /**
+     * Returns codec for given protocol version.
+     *
+     * @param   version
+     *          Protocol version to get codec for
+     * @return  Codec for given protocol version
+     */
+    @NotNull
+    public static ScoreboardCodec of(@NonNull ProtocolVersion version) {
+        return CODECS[version.ordinal()];
+    }
+
+    @NotNull
+    private static ScoreboardCodec create(@NotNull ProtocolVersion version) {
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_26_2)) return new Codec26_2(version);
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_21_5)) return new Codec1_21_5(version);
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) return new Codec1_20_3(version);
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_2)) return new Codec1_20_2(version);
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_13)) return new Codec1_13(version);
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_9)) return new Codec1_9(version);
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_8)) return new Codec1_8(version);
+        return new Codec1_7(version);
+    }
+
+    /**
+     * Creates a packet setting score for this protocol version.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   objectiveName
+     *          Objective name
+     * @param   value
+     *          Score value
+     * @param   displayName
+     *          Display name of the score holder (1.20.3+)
+     * @param   numberFormat
+     *          Number format of the score (1.20.3+)
+     * @return  Packet setting the score
+     */
+    @NotNull
+    public MinecraftPacket scoreSet(@NonNull String holder, @NonNull String objectiveName, int value,
+                                    @Nullable Component displayName, @Nullable NumberFormat numberFormat) {
+        return new ScorePacket(ScorePacket.ScoreAction.SET, holder, objectiveName, value);
+    }
+
+    /**
+     * Creates a packet setting score for this protocol version using already serialized display name.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   objectiveName
+     *          Objective name
+     * @param   value
+     *          Score value
+     * @param   displayName
+     *          Serialized display name of the score holder (1.20.3+)
+     * @param   numberFormat
+     *          Number format of the score (1.20.3+)
+     * @return  Packet setting the score
+     */
+    @NotNull
+    public MinecraftPacket scoreSet(@NonNull String holder, @NonNull String objectiveName, int value,
+                                    @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+        return new ScorePacket(ScorePacket.ScoreAction.SET, holder, objectiveName, value);
+    }
+
+    /**
+     * Updates given packet previously returned by this method to set the score, or creates a new one if
+     * {@code packet} is {@code null}. Holder and objective name must be the same as in the previous call.
+     * This avoids allocating a packet on every update of a frequently changing score.
+     *
+     * @param   packet
+     *          Previously created packet to reuse, or {@code null} for the first call
+     * @param   holder
+     *          Score holder
+     * @param   objectiveName
+     *          Objective name
+     * @param   value
+     *          Score value
+     * @param   displayName
+     *          Display name of the score holder (1.20.3+)
+     * @param   numberFormat
+     *          Number format of the score (1.20.3+)
+     * @return  Packet setting the score
+     */
+    @NotNull
+    public MinecraftPacket scoreSet(@Nullable MinecraftPacket packet, @NonNull String holder, @NonNull String objectiveName,
+                                    int value, @Nullable Component displayName, @Nullable NumberFormat numberFormat) {
+        if (packet instanceof ScorePacket score) {
+            score.setValue(value);
+            return score;
+        }
+        return scoreSet(holder, objectiveName, value, displayName, numberFormat);
+    }
+
+    /**
+     * Updates given packet previously returned by this method to set the score, or creates a new one if
+     * {@code packet} is {@code null}, using already serialized display name. Holder and objective name
+     * must be the same as in the previous call.
+     *
+     * @param   packet
+     *          Previously created packet to reuse, or {@code null} for the first call
+     * @param   holder
+     *          Score holder
+     * @param   objectiveName
+     *          Objective name
+     * @param   value
+     *          Score value
+     * @param   displayName
+     *          Serialized display name of the score holder (1.20.3+)
+     * @param   numberFormat
+     *          Number format of the score (1.20.3+)
+     * @return  Packet setting the score
+     */
+    @NotNull
+    public MinecraftPacket scoreSet(@Nullable MinecraftPacket packet, @NonNull String holder, @NonNull String objectiveName,
+                                    int value, @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+        if (packet instanceof ScorePacket score) {
+            score.setValue(value);
+            return score;
+        }
+        return scoreSet(holder, objectiveName, value, displayName, numberFormat);
+    }
+
+    /**
+     * Creates a packet setting score without display name and number format, encoded in advance
+     * for this protocol version. The packet can be sent to every player on this version without
+     * encoding it again and must not be modified.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   objectiveName
+     *          Objective name
+     * @param   value
+     *          Score value
+     * @return  Pre-encoded packet setting the score
+     */
+    @NotNull
+    public MinecraftPacket sharedScoreSet(@NonNull String holder, @NonNull String objectiveName, int value) {
+        MinecraftPacket packet = scoreSet(holder, objectiveName, value, (Component) null, null);
+        if (packet instanceof ScorePacket score) {
+            score.preEncode(version);
+        } else if (packet instanceof ScoreSetPacket set) {
+            set.preEncode(version);
+        }
+        return packet;
+    }
+
+    /**
+     * Creates a packet resetting score for this protocol version.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   objectiveName
+     *          Objective name
+     * @return  Packet resetting the score
+     */
+    @NotNull
+    public MinecraftPacket scoreReset(@NonNull String holder, @NonNull String objectiveName) {
+        return new ScorePacket(ScorePacket.ScoreAction.RESET, holder, objectiveName, 0);
+    }
+
+    /**
+     * Encodes objective packet.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   packet
+     *          Packet to encode
+     */
+    public void writeObjective(@NotNull ByteBuf buf, @NotNull ObjectivePacket packet) {
+        ProtocolUtils.writeString(buf, packet.getObjectiveName());
+        buf.writeByte(packet.getAction().ordinal());
+        if (packet.getAction() == ObjectiveAction.REGISTER || packet.getAction() == ObjectiveAction.UPDATE) {
+            writeObjectiveProperties(buf, packet);
+        }
+    }
+
+    /**
+     * Returns encoded size of objective packet.
+     *
+     * @param   packet
+     *          Packet to get size of
+     * @return  Encoded size of the packet in bytes
+     */
+    public int objectiveSize(@NotNull ObjectivePacket packet) {
+        int size = stringSize(packet.getObjectiveName()) + 1;
+        if (packet.getAction() == ObjectiveAction.REGISTER || packet.getAction() == ObjectiveAction.UPDATE) {
+            size += objectivePropertiesSize(packet);
+        }
+        return size;
+    }
+
+    /**
+     * Encodes title, health display and number format of an objective.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   packet
+     *          Packet to encode
+     */
+    protected abstract void writeObjectiveProperties(@NotNull ByteBuf buf, @NotNull ObjectivePacket packet);
+
+    /**
+     * Returns encoded size of title, health display and number format of an objective.
+     *
+     * @param   packet
+     *          Packet to get size of
+     * @return  Encoded size of objective properties in bytes
+     */
+    protected abstract int objectivePropertiesSize(@NotNull ObjectivePacket packet);
+
+    /**
+     * Encodes display objective packet.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   packet
+     *          Packet to encode
+     */
+    public void writeDisplayObjective(@NotNull ByteBuf buf, @NotNull DisplayObjectivePacket packet) {
+        buf.writeByte(packet.getPosition().ordinal());
+        ProtocolUtils.writeString(buf, packet.getObjectiveName());
+    }
+
+    /**
+     * Returns encoded size of display objective packet.
+     *
+     * @param   packet
+     *          Packet to get size of
+     * @return  Encoded size of the packet in bytes
+     */
+    public int displayObjectiveSize(@NotNull DisplayObjectivePacket packet) {
+        return 1 + stringSize(packet.getObjectiveName()); // Slot fits into a single byte even as VarInt
+    }
+
+    /**
+     * Encodes score packet.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   packet
+     *          Packet to encode
+     */
+    public void writeScore(@NotNull ByteBuf buf, @NotNull ScorePacket packet) {
+        ProtocolUtils.writeString(buf, packet.getScoreHolder());
+        buf.writeByte(packet.getAction().ordinal());
+        ProtocolUtils.writeString(buf, packet.getObjectiveName());
+        if (packet.getAction() == ScorePacket.ScoreAction.SET) {
+            ProtocolUtils.writeVarInt(buf, packet.getValue());
+        }
+    }
+
+    /**
+     * Returns encoded size of score packet.
+     *
+     * @param   packet
+     *          Packet to get size of
+     * @return  Encoded size of the packet in bytes
+     */
+    public int scoreSize(@NotNull ScorePacket packet) {
+        int size = stringSize(packet.getScoreHolder()) + 1 + stringSize(packet.getObjectiveName());
+        if (packet.getAction() == ScorePacket.ScoreAction.SET) {
+            size += ProtocolUtils.varIntBytes(packet.getValue());
+        }
+        return size;
+    }
+
+    /**
+     * Encodes score set packet (1.20.3+).
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   packet
+     *          Packet to encode
+     */
+    public void writeScoreSet(@NotNull ByteBuf buf, @NotNull ScoreSetPacket packet) {
+        ProtocolUtils.writeString(buf, packet.getScoreHolder());
+        ProtocolUtils.writeString(buf, packet.getObjectiveName());
+        ProtocolUtils.writeVarInt(buf, packet.getValue());
+        buf.writeBoolean(packet.getDisplayName() != null);
+        if (packet.getDisplayName() != null) packet.getDisplayName().write(buf);
+        buf.writeBoolean(packet.getNumberFormat() != null);
+        if (packet.getNumberFormat() != null) NumberFormatEncoder.write(buf, version, packet.getNumberFormat());
+    }
+
+    /**
+     * Returns encoded size of score set packet (1.20.3+).
+     *
+     * @param   packet
+     *          Packet to get size of
+     * @return  Encoded size of the packet in bytes
+     */
+    public int scoreSetSize(@NotNull ScoreSetPacket packet) {
+        int size = stringSize(packet.getScoreHolder()) + stringSize(packet.getObjectiveName()) +
+                ProtocolUtils.varIntBytes(packet.getValue()) + 2;
+        if (packet.getDisplayName() != null) size += componentSize(version, packet.getDisplayName());
+        if (packet.getNumberFormat() != null) size += numberFormatSize(packet.getNumberFormat());
+        return size;
+    }
+
+    /**
+     * Encodes score reset packet (1.20.3+).
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   packet
+     *          Packet to encode
+     */
+    public void writeScoreReset(@NotNull ByteBuf buf, @NotNull ScoreResetPacket packet) {
+        ProtocolUtils.writeString(buf, packet.getScoreHolder());
+        buf.writeBoolean(packet.getObjectiveName() != null);
+        if (packet.getObjectiveName() != null) ProtocolUtils.writeString(buf, packet.getObjectiveName());
+    }
+
+    /**
+     * Returns encoded size of score reset packet (1.20.3+).
+     *
+     * @param   packet
+     *          Packet to get size of
+     * @return  Encoded size of the packet in bytes
+     */
+    public int scoreResetSize(@NotNull ScoreResetPacket packet) {
+        int size = stringSize(packet.getScoreHolder()) + 1;
+        if (packet.getObjectiveName() != null) size += stringSize(packet.getObjectiveName());
+        return size;
+    }
+
+    /**
+     * Encodes team packet.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   packet
+     *          Packet to encode
+     */
+    public void writeTeam(@NotNull ByteBuf buf, @NotNull TeamPacket packet) {
+        ProtocolUtils.writeString(buf, packet.getName());
+        TeamAction action = packet.getAction();
+        buf.writeByte(action.ordinal());
+        if (action == TeamAction.REGISTER || action == TeamAction.UPDATE) {
+            writeTeamProperties(buf, packet.getProperties());
+        }
+        if (action == TeamAction.REGISTER || action == TeamAction.ADD_PLAYER || action == TeamAction.REMOVE_PLAYER) {
+            writeEntries(buf, packet.getEntries());
+        }
+    }
+
+    /**
+     * Returns encoded size of team packet. It is exact for legacy versions and an estimate
+     * for versions using components.
+     *
+     * @param   packet
+     *          Packet to get size of
+     * @return  Encoded size of the packet in bytes
+     */
+    public int teamSize(@NotNull TeamPacket packet) {
+        int size = stringSize(packet.getName()) + 1;
+        TeamAction action = packet.getAction();
+        if (action == TeamAction.REGISTER || action == TeamAction.UPDATE) {
+            size += teamPropertiesSize(packet.getProperties());
+        }
+        if (action == TeamAction.REGISTER || action == TeamAction.ADD_PLAYER || action == TeamAction.REMOVE_PLAYER) {
+            size += entriesSize(packet.getEntries());
+        }
+        return size;
+    }
+
+    /**
+     * Encodes team properties.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   properties
+     *          Properties to encode
+     */
+    public abstract void writeTeamProperties(@NotNull ByteBuf buf, @NotNull TeamProperties properties);
+
+    /**
+     * Returns encoded size of team properties.
+     *
+     * @param   properties
+     *          Properties to get size of
+     * @return  Encoded size of team properties in bytes
+     */
+    protected abstract int teamPropertiesSize(@NotNull TeamProperties properties);
+
+    /**
+     * Encodes team entries.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   entries
+     *          Entries to encode
+     */
+    public void writeEntries(@NotNull ByteBuf buf, @NotNull StringCollection entries) {
+        ProtocolUtils.writeVarInt(buf, entries.size());
+        entries.writeValues(buf);
+    }
+
+    /**
+     * Returns encoded size of team entries.
+     *
+     * @param   entries
+     *          Entries to get size of
+     * @return  Encoded size of entries in bytes
+     */
+    public int entriesSize(@NotNull StringCollection entries) {
+        return ProtocolUtils.varIntBytes(entries.size()) + entries.valuesSize();
+    }
+
+    /**
+     * Returns encoded size of a string, consisting of VarInt length and UTF-8 bytes.
+     *
+     * @param   string
+     *          String to get size of
+     * @return  Encoded size of the string in bytes
+     */
+    public static int stringSize(@NonNull String string) {
+        int length = ByteBufUtil.utf8Bytes(string);
+        return ProtocolUtils.varIntBytes(length) + length;
+    }
+
+    /**
+     * Returns encoded size of a number format.
+     *
+     * @param   format
+     *          Number format to get size of
+     * @return  Encoded size of the number format in bytes
+     */
+    protected int numberFormatSize(@NotNull NumberFormat format) {
+        return NumberFormatEncoder.size(version, format);
+    }
+
+    /**
+     * Returns team flags byte from given properties.
+     *
+     * @param   properties
+     *          Properties to get flags from
+     * @return  Team flags
+     */
+    protected static byte flags(@NotNull TeamProperties properties) {
+        byte flags = 0;
+        if (properties.isAllowFriendlyFire()) flags += 0x01;
+        if (properties.isCanSeeFriendlyInvisibles()) flags += 0x02;
+        return flags;
+    }
+
+    /**
+     * Writes text as a component.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   text
+     *          Text to write
+     */
+    protected void writeComponent(@NotNull ByteBuf buf, @NotNull TextHolder text) {
+        ((TextHolderImpl) text).getHolder(version).write(buf);
+    }
+
+    /**
+     * Returns encoded size of text written as a component. Size is computed from the serialized
+     * form kept by the component holder, which is then reused when writing the text.
+     *
+     * @param   text
+     *          Text to get size of
+     * @return  Encoded size of the component in bytes
+     */
+    protected int componentSize(@NotNull TextHolder text) {
+        return componentSize(version, ((TextHolderImpl) text).getHolder(version));
+    }
+
+    /**
+     * Returns encoded size of a component holder. Components are written as binary tags on 1.20.3+
+     * and as JSON strings before that, both of which are cached by the holder once serialized.
+     *
+     * @param   version
+     *          Protocol version the component is written for
+     * @param   holder
+     *          Component holder to get size of
+     * @return  Encoded size of the component in bytes
+     */
+    public static int componentSize(@NonNull ProtocolVersion version, @NonNull ComponentHolder holder) {
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) return BinaryTagSize.of(holder.getBinaryTag());
+        return stringSize(holder.getJson());
+    }
+
+    /**
+     * Returns encoded size of display name, prefix and suffix of a team written as components.
+     *
+     * @param   properties
+     *          Team properties to get size of
+     * @return  Encoded size of the three components in bytes
+     */
+    protected int teamComponentsSize(@NotNull TeamProperties properties) {
+        return componentSize(properties.getDisplayName()) + componentSize(properties.getPrefix()) +
+                componentSize(properties.getSuffix());
+    }
+
+    /**
+     * Codec for 1.7.x, which uses legacy strings, fixed-width integers and has no team
+     * visibility options.
+     */
+    private static class Codec1_7 extends ScoreboardCodec {
+
+        private Codec1_7(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        public void writeObjective(@NotNull ByteBuf buf, @NotNull ObjectivePacket packet) {
+            ProtocolUtils.writeString(buf, packet.getObjectiveName());
+            ProtocolUtils.writeString(buf, packet.getTitle() == null ? "" : packet.getTitle().getLegacyText(32));
+            buf.writeByte(packet.getAction().ordinal());
+        }
+
+        @Override
+        protected void writeObjectiveProperties(@NotNull ByteBuf buf, @NotNull ObjectivePacket packet) {
+            // Written in writeObjective in different order
+        }
+
+        @Override
+        public int objectiveSize(@NotNull ObjectivePacket packet) {
+            return stringSize(packet.getObjectiveName()) + 1 +
+                    stringSize(packet.getTitle() == null ? "" : packet.getTitle().getLegacyText(32));
+        }
+
+        @Override
+        protected int objectivePropertiesSize(@NotNull ObjectivePacket packet) {
+            return 0; // Counted in objectiveSize
+        }
+
+        @Override
+        public void writeDisplayObjective(@NotNull ByteBuf buf, @NotNull DisplayObjectivePacket packet) {
+            int ordinal = packet.getPosition().ordinal();
+            // Sidebars for team colors were added in 1.8, display as normal sidebar
+            buf.writeByte(ordinal > 2 ? 1 : ordinal);
+            ProtocolUtils.writeString(buf, packet.getObjectiveName());
+        }
+
+        @Override
+        public void writeScore(@NotNull ByteBuf buf, @NotNull ScorePacket packet) {
+            ProtocolUtils.writeString(buf, packet.getScoreHolder());
+            buf.writeByte(packet.getAction().ordinal());
+            if (packet.getAction() == ScorePacket.ScoreAction.SET) {
+                ProtocolUtils.writeString(buf, packet.getObjectiveName());
+                buf.writeInt(packet.getValue());
+            }
+        }
+
+        @Override
+        public int scoreSize(@NotNull ScorePacket packet) {
+            int size = stringSize(packet.getScoreHolder()) + 1;
+            if (packet.getAction() == ScorePacket.ScoreAction.SET) {
+                size += stringSize(packet.getObjectiveName()) + 4;
+            }
+            return size;
+        }
+
+        @Override
+        public void writeTeamProperties(@NotNull ByteBuf buf, @NotNull TeamProperties properties) {
+            ProtocolUtils.writeString(buf, properties.getDisplayName().getLegacyText(16));
+            ProtocolUtils.writeString(buf, properties.getPrefix().getLegacyText(16));
+            ProtocolUtils.writeString(buf, properties.getSuffix().getLegacyText(16));
+            buf.writeByte(flags(properties));
+        }
+
+        @Override
+        protected int teamPropertiesSize(@NotNull TeamProperties properties) {
+            return stringSize(properties.getDisplayName().getLegacyText(16)) +
+                    stringSize(properties.getPrefix().getLegacyText(16)) +
+                    stringSize(properties.getSuffix().getLegacyText(16)) + 1;
+        }
+
+        @Override
+        public void writeEntries(@NotNull ByteBuf buf, @NotNull StringCollection entries) {
+            buf.writeShort(entries.size());
+            entries.writeValues(buf);
+        }
+
+        @Override
+        public int entriesSize(@NotNull StringCollection entries) {
+            return 2 + entries.valuesSize();
+        }
+    }
+
+    /**
+     * Codec for 1.8, which added health display, team name visibility and color.
+     */
+    private static class Codec1_8 extends ScoreboardCodec {
+
+        private Codec1_8(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        protected void writeObjectiveProperties(@NotNull ByteBuf buf, @NotNull ObjectivePacket packet) {
+            ProtocolUtils.writeString(buf, packet.getTitle().getLegacyText(32));
+            ProtocolUtils.writeString(buf, packet.getHealthDisplay().toString());
+        }
+
+        @Override
+        protected int objectivePropertiesSize(@NotNull ObjectivePacket packet) {
+            return stringSize(packet.getTitle().getLegacyText(32)) + stringSize(packet.getHealthDisplay().toString());
+        }
+
+        @Override
+        public void writeTeamProperties(@NotNull ByteBuf buf, @NotNull TeamProperties properties) {
+            ProtocolUtils.writeString(buf, properties.getDisplayName().getLegacyText(16));
+            ProtocolUtils.writeString(buf, properties.getPrefix().getLegacyText(16));
+            ProtocolUtils.writeString(buf, properties.getSuffix().getLegacyText(16));
+            buf.writeByte(flags(properties));
+            ProtocolUtils.writeString(buf, properties.getNameVisibility().toString());
+            writeCollisionRule(buf, properties);
+            buf.writeByte(0); // 1.8 - 1.12 does not actually use this field, non-zero values crash the client
+        }
+
+        @Override
+        protected int teamPropertiesSize(@NotNull TeamProperties properties) {
+            return stringSize(properties.getDisplayName().getLegacyText(16)) +
+                    stringSize(properties.getPrefix().getLegacyText(16)) +
+                    stringSize(properties.getSuffix().getLegacyText(16)) + 1 +
+                    stringSize(properties.getNameVisibility().toString()) + collisionRuleSize(properties) + 1;
+        }
+
+        /**
+         * Writes collision rule of the team, which was added in 1.9.
+         *
+         * @param   buf
+         *          Buffer to write to
+         * @param   properties
+         *          Team properties
+         */
+        protected void writeCollisionRule(@NotNull ByteBuf buf, @NotNull TeamProperties properties) {
+            // Not present in 1.8
+        }
+
+        /**
+         * Returns encoded size of collision rule of the team, which was added in 1.9.
+         *
+         * @param   properties
+         *          Team properties
+         * @return  Encoded size of collision rule in bytes
+         */
+        protected int collisionRuleSize(@NotNull TeamProperties properties) {
+            return 0; // Not present in 1.8
+        }
+    }
+
+    /**
+     * Codec for 1.9 - 1.12.2, which added team collision rule.
+     */
+    private static class Codec1_9 extends Codec1_8 {
+
+        private Codec1_9(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        protected void writeCollisionRule(@NotNull ByteBuf buf, @NotNull TeamProperties properties) {
+            ProtocolUtils.writeString(buf, properties.getCollisionRule().toString());
+        }
+
+        @Override
+        protected int collisionRuleSize(@NotNull TeamProperties properties) {
+            return stringSize(properties.getCollisionRule().toString());
+        }
+    }
+
+    /**
+     * Codec for 1.13 - 1.20.1, which uses JSON components instead of legacy strings.
+     */
+    private static class Codec1_13 extends ScoreboardCodec {
+
+        private Codec1_13(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        protected void writeObjectiveProperties(@NotNull ByteBuf buf, @NotNull ObjectivePacket packet) {
+            writeComponent(buf, packet.getTitle());
+            ProtocolUtils.writeVarInt(buf, packet.getHealthDisplay().ordinal());
+        }
+
+        @Override
+        protected int objectivePropertiesSize(@NotNull ObjectivePacket packet) {
+            return componentSize(packet.getTitle()) + 1;
+        }
+
+        @Override
+        public void writeTeamProperties(@NotNull ByteBuf buf, @NotNull TeamProperties properties) {
+            writeComponent(buf, properties.getDisplayName());
+            buf.writeByte(flags(properties));
+            ProtocolUtils.writeString(buf, properties.getNameVisibility().toString());
+            ProtocolUtils.writeString(buf, properties.getCollisionRule().toString());
+            ProtocolUtils.writeVarInt(buf, properties.getColor().ordinal());
+            writeComponent(buf, properties.getPrefix());
+            writeComponent(buf, properties.getSuffix());
+        }
+
+        @Override
+        protected int teamPropertiesSize(@NotNull TeamProperties properties) {
+            return teamComponentsSize(properties) + 2 + stringSize(properties.getNameVisibility().toString()) +
+                    stringSize(properties.getCollisionRule().toString());
+        }
+    }
+
+    /**
+     * Codec for 1.20.2, which encodes display slot as a VarInt.
+     */
+    private static class Codec1_20_2 extends Codec1_13 {
+
+        private Codec1_20_2(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        public void writeDisplayObjective(@NotNull ByteBuf buf, @NotNull DisplayObjectivePacket packet) {
+            ProtocolUtils.writeVarInt(buf, packet.getPosition().ordinal());
+            ProtocolUtils.writeString(buf, packet.getObjectiveName());
+        }
+    }
+
+    /**
+     * Codec for 1.20.3 - 1.21.4, which uses NBT components, number formats and separate
+     * packets for setting and resetting scores.
+     */
+    private static class Codec1_20_3 extends Codec1_20_2 {
+
+        private Codec1_20_3(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        @NotNull
+        public MinecraftPacket scoreSet(@NonNull String holder, @NonNull String objectiveName, int value,
+                                        @Nullable Component displayName, @Nullable NumberFormat numberFormat) {
+            ComponentHolder cHolder = displayName == null ? null : new ComponentHolder(version, displayName);
+            return new ScoreSetPacket(holder, objectiveName, value, cHolder, numberFormat);
+        }
+
+        @Override
+        @NotNull
+        public MinecraftPacket scoreSet(@NonNull String holder, @NonNull String objectiveName, int value,
+                                        @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+            return new ScoreSetPacket(holder, objectiveName, value, displayName, numberFormat);
+        }
+
+        @Override
+        @NotNull
+        public MinecraftPacket scoreSet(@Nullable MinecraftPacket packet, @NonNull String holder, @NonNull String objectiveName,
+                                        int value, @Nullable Component displayName, @Nullable NumberFormat numberFormat) {
+            if (packet instanceof ScoreSetPacket score) {
+                score.setValue(value);
+                ComponentHolder previous = score.getDisplayName();
+                if (previous == null ? displayName != null : previous.getComponent() != displayName) {
+                    score.setDisplayName(displayName == null ? null : new ComponentHolder(version, displayName));
+                }
+                score.setNumberFormat(numberFormat);
+                return score;
+            }
+            return scoreSet(holder, objectiveName, value, displayName, numberFormat);
+        }
+
+        @Override
+        @NotNull
+        public MinecraftPacket scoreSet(@Nullable MinecraftPacket packet, @NonNull String holder, @NonNull String objectiveName,
+                                        int value, @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+            if (packet instanceof ScoreSetPacket score) {
+                score.setValue(value);
+                score.setDisplayName(displayName);
+                score.setNumberFormat(numberFormat);
+                return score;
+            }
+            return scoreSet(holder, objectiveName, value, displayName, numberFormat);
+        }
+
+        @Override
+        @NotNull
+        public MinecraftPacket scoreReset(@NonNull String holder, @NonNull String objectiveName) {
+            return new ScoreResetPacket(holder, objectiveName);
+        }
+
+        @Override
+        protected void writeObjectiveProperties(@NotNull ByteBuf buf, @NotNull ObjectivePacket packet) {
+            super.writeObjectiveProperties(buf, packet);
+            buf.writeBoolean(packet.getNumberFormat() != null);
+            if (packet.getNumberFormat() != null) {
+                NumberFormatEncoder.write(buf, version, packet.getNumberFormat());
+            }
+        }
+
+        @Override
+        protected int objectivePropertiesSize(@NotNull ObjectivePacket packet) {
+            int size = super.objectivePropertiesSize(packet) + 1;
+            if (packet.getNumberFormat() != null) size += numberFormatSize(packet.getNumberFormat());
+            return size;
+        }
+    }
+
+    /**
+     * Codec for 1.21.5 - 26.1, which encodes team name visibility and collision rule as VarInts.
+     */
+    private static class Codec1_21_5 extends Codec1_20_3 {
+
+        private Codec1_21_5(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        public void writeTeamProperties(@NotNull ByteBuf buf, @NotNull TeamProperties properties) {
+            writeComponent(buf, properties.getDisplayName());
+            buf.writeByte(flags(properties));
+            ProtocolUtils.writeVarInt(buf, properties.getNameVisibility().ordinal());
+            ProtocolUtils.writeVarInt(buf, properties.getCollisionRule().ordinal());
+            ProtocolUtils.writeVarInt(buf, properties.getColor().ordinal());
+            writeComponent(buf, properties.getPrefix());
+            writeComponent(buf, properties.getSuffix());
+        }
+
+        @Override
+        protected int teamPropertiesSize(@NotNull TeamProperties properties) {
+            return teamComponentsSize(properties) + 4;
+        }
+    }
+
+    /**
+     * Codec for 26.2+, which reordered team properties and made team color optional.
+     */
+    private static class Codec26_2 extends Codec1_21_5 {
+
+        private Codec26_2(@NotNull ProtocolVersion version) {
+            super(version);
+        }
+
+        @Override
+        public void writeTeamProperties(@NotNull ByteBuf buf, @NotNull TeamProperties properties) {
+            writeComponent(buf, properties.getDisplayName());
+            writeComponent(buf, properties.getPrefix());
+            writeComponent(buf, properties.getSuffix());
+            ProtocolUtils.writeVarInt(buf, properties.getNameVisibility().ordinal());
+            ProtocolUtils.writeVarInt(buf, properties.getCollisionRule().ordinal());
+            TeamColor color = properties.getColor();
+            buf.writeBoolean(color != TeamColor.RESET); // Since field is NotNull, let's make RESET act as null here
+            if (color != TeamColor.RESET) {
+                ProtocolUtils.writeVarInt(buf, Math.min(15, color.ordinal()));
+            }
+            buf.writeByte(flags(properties));
+        }
+
+        @Override
+        protected int teamPropertiesSize(@NotNull TeamProperties properties) {
+            return teamComponentsSize(properties) + (properties.getColor() != TeamColor.RESET ? 5 : 4);
+        }
+    }
+}
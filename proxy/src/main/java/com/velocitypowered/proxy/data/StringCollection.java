@@ -61,6 +61,9 @@ public class StringCollection {
     /** Separate field for size tracking for better performance */
     private int size;
 
+    /** Cached encoded size of all entries in bytes (without size prefix), {@code -1} if not computed yet */
+    private int valuesSize = -1;
+
     /**
      * Constructs new instance with empty collection.
      */
@@ -124,11 +127,17 @@ public class StringCollection {
      *          Protocol version for encoding
      */
     public void write(@NonNull ByteBuf buf, @NonNull ProtocolVersion protocolVersion) {
-        if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_8)) {
-            ProtocolUtils.writeVarInt(buf, size);
-        } else {
-            buf.writeShort(size);
-        }
+        ScoreboardCodec.of(protocolVersion).writeEntries(buf, this);
+    }
+
+    /**
+     * Writes entries of this collection to a protocol buffer without the size prefix,
+     * which differs between protocol versions.
+     *
+     * @param   buf
+     *          Buffer to write to
+     */
+    public void writeValues(@NonNull ByteBuf buf) {
         if (size == 0) return;
         if (size == 1) {
             ProtocolUtils.writeString(buf, entry);
@@ -139,6 +148,36 @@ public class StringCollection {
         }
     }
 
+    /**
+     * Returns size of entries written by {@link #writeValues(ByteBuf)} in bytes. The value is
+     * cached until this collection is modified.
+     *
+     * @return  Encoded size of entries in bytes
+     */
+    public int valuesSize() {
+        if (valuesSize == -1) {
+            int bytes = 0;
+            if (size == 1) {
+                bytes = ScoreboardCodec.stringSize(entry);
+            } else if (size > 1) {
+                for (String player : entries) {
+                    bytes += ScoreboardCodec.stringSize(player);
+                }
+            }
+            valuesSize = bytes;
+        }
+        return valuesSize;
+    }
+
+    /**
+     * Returns amount of entries in this collection.
+     *
+     * @return  Amount of entries in this collection
+     */
+    public int size() {
+        return size;
+    }
+
     /**
      * Returns entries in this collection. If the collection is empty, {@link Collections#emptyList()} is returned.
      * If the collection contains exactly one element, collection is initialized with that one element and returned.
@@ -192,6 +231,7 @@ public class StringCollection {
             entries.add(entry);
         }
         size++;
+        valuesSize = -1;
     }
 
     /**
@@ -214,7 +254,10 @@ public class StringCollection {
             }
             removed = true;
         }
-        if (removed) size--;
+        if (removed) {
+            size--;
+            valuesSize = -1;
+        }
         return removed;
     }
 
@@ -252,6 +295,18 @@ public class StringCollection {
         }
     }
 
+    /**
+     * Creates a copy of this collection, which is not affected by further modifications of this one.
+     *
+     * @return  Copy of this collection
+     */
+    @NotNull
+    public StringCollection copy() {
+        if (size == 0) return new StringCollection();
+        if (size == 1) return new StringCollection(entry);
+        return new StringCollection(entries);
+    }
+
     @Override
     @NotNull
     public String toString() {
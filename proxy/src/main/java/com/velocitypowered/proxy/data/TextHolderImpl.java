@@ -25,7 +25,6 @@ import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import lombok.NonNull;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -50,6 +49,24 @@ public class TextHolderImpl extends TextHolder {
     @Nullable
     private ComponentHolder holder;
 
+    /**
+     * Component holders serialized for each protocol version, indexed by ordinal, {@code null} if this
+     * text was not prepared. Holders are created on first use for each version and keep their serialized form.
+     */
+    @Nullable
+    private ComponentHolder[] holders;
+
+    /**
+     * Component holder last created for a text that was not prepared, reused while the same version
+     * is requested, so computing encoded size and then writing the text only serializes it once
+     */
+    @Nullable
+    private volatile VersionedHolder lastHolder;
+
+    /** Legacy text with variants cut down to common character limits, computed on first use */
+    @Nullable
+    private LegacyTextCache.Entry legacy;
+
     /**
      * Constructs new instance with given legacy text for 1.12- players.
      * If used for 1.13+, display component will be computed automatically.
@@ -103,10 +120,7 @@ public class TextHolderImpl extends TextHolder {
      */
     @NotNull
     public String getLegacyText() {
-        if (legacyText == null) {
-            legacyText = LegacyComponentSerializer.legacySection().serialize(getModernText());
-        }
-        return legacyText;
+        return getLegacy().text();
     }
 
     /**
@@ -119,13 +133,21 @@ public class TextHolderImpl extends TextHolder {
      */
     @NotNull
     public String getLegacyText(int charLimit) {
-        if (legacyText == null) {
-            legacyText = LegacyComponentSerializer.legacySection().serialize(getModernText());
-        }
-        if (legacyText.length() > charLimit) {
-            return legacyText.substring(0, charLimit);
+        return getLegacy().get(charLimit);
+    }
+
+    /**
+     * Returns legacy text with variants cut down to common character limits. If legacy text
+     * was not set, it is taken from the global cache of serialized components.
+     *
+     * @return  Legacy text with variants cut down to common character limits
+     */
+    @NotNull
+    private LegacyTextCache.Entry getLegacy() {
+        if (legacy == null) {
+            legacy = legacyText != null ? LegacyTextCache.Entry.of(legacyText) : LegacyTextCache.get(getModernText());
         }
-        return legacyText;
+        return legacy;
     }
 
     /**
@@ -155,8 +177,41 @@ public class TextHolderImpl extends TextHolder {
      */
     @NotNull
     public ComponentHolder getHolder(@NonNull ProtocolVersion version) {
-        if (holder == null) return new ComponentHolder(version, getModernText()); // Cannot save because of potential different versions
-        return holder;
+        if (holder != null) return holder;
+        ComponentHolder[] holders = this.holders;
+        if (holders == null) {
+            // Only keep the last one, as unprepared texts are usually written for a single version
+            VersionedHolder last = lastHolder;
+            if (last != null && last.version == version) return last.holder;
+            ComponentHolder created = new ComponentHolder(version, getModernText());
+            lastHolder = new VersionedHolder(version, created);
+            return created;
+        }
+        ComponentHolder versionHolder = holders[version.ordinal()];
+        if (versionHolder == null) {
+            // Racing threads may both serialize, which is harmless as the result is the same
+            versionHolder = new ComponentHolder(version, getModernText());
+            if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+                versionHolder.getBinaryTag();
+            } else {
+                versionHolder.getJson();
+            }
+            holders[version.ordinal()] = versionHolder;
+        }
+        return versionHolder;
+    }
+
+    /**
+     * Prepares this text to be written many times, such as a frame of an animation. Component is then
+     * serialized only once for each protocol version it is written for, instead of on every write.
+     *
+     * @return  This text
+     */
+    @NotNull
+    public TextHolderImpl prepare() {
+        if (holders == null) holders = new ComponentHolder[ProtocolVersion.values().length];
+        getLegacy();
+        return this;
     }
 
     @Override
@@ -172,4 +227,15 @@ public class TextHolderImpl extends TextHolder {
         }
         return false;
     }
+
+    /**
+     * Component holder created for a single protocol version.
+     *
+     * @param   version
+     *          Protocol version the holder was created for
+     * @param   holder
+     *          Component holder
+     */
+    private record VersionedHolder(@NotNull ProtocolVersion version, @NotNull ComponentHolder holder) {
+    }
 }
@@ -24,6 +24,7 @@ import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.scoreboard.DisplaySlot;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.data.PacketHandler;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import io.netty.buffer.ByteBuf;
@@ -59,17 +60,12 @@ public class DisplayObjectivePacket implements MinecraftPacket {
 
     @Override
     public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_20_2)) {
-            ProtocolUtils.writeVarInt(buf, position.ordinal());
-        } else {
-            int ordinal = position.ordinal();
-            if (protocolVersion.lessThan(ProtocolVersion.MINECRAFT_1_8) && ordinal > 2) {
-                // Sidebars for team colors were added in 1.8, display as normal sidebar
-                ordinal = 1;
-            }
-            buf.writeByte(ordinal);
-        }
-        ProtocolUtils.writeString(buf, objectiveName);
+        ScoreboardCodec.of(protocolVersion).writeDisplayObjective(buf, this);
+    }
+
+    @Override
+    public int encodeSizeHint(ProtocolUtils.Direction direction, ProtocolVersion version) {
+        return ScoreboardCodec.of(version).displayObjectiveSize(this);
     }
 
     @Override
@@ -27,16 +27,16 @@ import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.data.NumberFormatEncoder;
 import com.velocitypowered.proxy.data.PacketHandler;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import com.velocitypowered.proxy.data.TextHolderImpl;
-import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import io.netty.buffer.ByteBuf;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Locale;
 
@@ -46,8 +46,7 @@ import java.util.Locale;
 @Getter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
-public class ObjectivePacket implements MinecraftPacket {
+public class ObjectivePacket extends PreEncodablePacket {
 
     /** Cached array to prevent new array instantiation on each .values() call */
     private static final HealthDisplay[] DISPLAYS = HealthDisplay.values();
@@ -67,6 +66,29 @@ public class ObjectivePacket implements MinecraftPacket {
     /** Default number format for all scores in this objective (1.20.3+) */
     private NumberFormat numberFormat;
 
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   action
+     *          Packet action
+     * @param   objectiveName
+     *          Name of this objective
+     * @param   title
+     *          Objective title
+     * @param   healthDisplay
+     *          Health display for 1.8+
+     * @param   numberFormat
+     *          Default number format for all scores in this objective (1.20.3+)
+     */
+    public ObjectivePacket(@NotNull ObjectiveAction action, @NotNull String objectiveName, @Nullable TextHolder title,
+                           @Nullable HealthDisplay healthDisplay, @Nullable NumberFormat numberFormat) {
+        this.action = action;
+        this.objectiveName = objectiveName;
+        this.title = title;
+        this.healthDisplay = healthDisplay;
+        this.numberFormat = numberFormat;
+    }
+
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
         objectiveName = ProtocolUtils.readString(buf);
@@ -99,29 +121,13 @@ public class ObjectivePacket implements MinecraftPacket {
     }
 
     @Override
-    public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, objectiveName);
-        if (protocolVersion.noGreaterThan(ProtocolVersion.MINECRAFT_1_7_6)) {
-            ProtocolUtils.writeString(buf, title.getLegacyText(32));
-            buf.writeByte(action.ordinal());
-            return;
-        }
-        buf.writeByte(action.ordinal());
-        if (action == ObjectiveAction.REGISTER || action == ObjectiveAction.UPDATE) {
-            if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_13)) {
-                ((TextHolderImpl)title).getHolder(protocolVersion).write(buf);
-                ProtocolUtils.writeVarInt(buf, healthDisplay.ordinal());
-            } else {
-                ProtocolUtils.writeString(buf, title.getLegacyText(32));
-                ProtocolUtils.writeString(buf, healthDisplay.toString());
-            }
-            if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-                buf.writeBoolean(numberFormat != null);
-                if (numberFormat != null) {
-                    NumberFormatEncoder.write(buf, protocolVersion, numberFormat);
-                }
-            }
-        }
+    protected void write(@NotNull ByteBuf buf, @NotNull ProtocolVersion protocolVersion) {
+        ScoreboardCodec.of(protocolVersion).writeObjective(buf, this);
+    }
+
+    @Override
+    protected int size(@NotNull ProtocolVersion protocolVersion) {
+        return ScoreboardCodec.of(protocolVersion).objectiveSize(this);
     }
 
     @Override
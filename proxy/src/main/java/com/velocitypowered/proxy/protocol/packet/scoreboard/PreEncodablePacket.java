@@ -0,0 +1,107 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.protocol.packet.scoreboard;
+
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base of scoreboard packets which can be encoded once in advance and then sent to many players
+ * on the same protocol version, such as global objective scores and scoreboard templates.
+ * Encoding is otherwise delegated to {@link #write(ByteBuf, ProtocolVersion)} and
+ * {@link #size(ProtocolVersion)} of the packet.
+ */
+public abstract class PreEncodablePacket implements MinecraftPacket {
+
+    /** Packet content encoded in advance for {@link #encodedVersion} */
+    @Nullable
+    private byte[] encoded;
+
+    /** Protocol version {@link #encoded} was encoded for */
+    @Nullable
+    private ProtocolVersion encodedVersion;
+
+    @Override
+    public final void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
+        if (encoded != null && protocolVersion == encodedVersion) {
+            buf.writeBytes(encoded);
+            return;
+        }
+        write(buf, protocolVersion);
+    }
+
+    @Override
+    public final int encodeSizeHint(ProtocolUtils.Direction direction, ProtocolVersion version) {
+        if (encoded != null && version == encodedVersion) return encoded.length;
+        return size(version);
+    }
+
+    /**
+     * Encodes this packet once for given protocol version and keeps the bytes for all further writes
+     * for that version. The packet must not be modified afterwards.
+     *
+     * @param   protocolVersion
+     *          Protocol version to encode the packet for
+     */
+    public void preEncode(@NonNull ProtocolVersion protocolVersion) {
+        ByteBuf buf = Unpooled.buffer(size(protocolVersion));
+        write(buf, protocolVersion);
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        encoded = bytes;
+        encodedVersion = protocolVersion;
+    }
+
+    /**
+     * Returns {@code true} if this packet was encoded in advance and may be shared by multiple players,
+     * {@code false} if not.
+     *
+     * @return  {@code true} if this packet was encoded in advance, {@code false} if not
+     */
+    public boolean isPreEncoded() {
+        return encoded != null;
+    }
+
+    /**
+     * Writes content of this packet for given protocol version.
+     *
+     * @param   buf
+     *          Buffer to write to
+     * @param   protocolVersion
+     *          Protocol version to encode the packet for
+     */
+    protected abstract void write(@NotNull ByteBuf buf, @NotNull ProtocolVersion protocolVersion);
+
+    /**
+     * Returns size of content written by {@link #write(ByteBuf, ProtocolVersion)} in bytes.
+     *
+     * @param   protocolVersion
+     *          Protocol version to encode the packet for
+     * @return  Encoded size of this packet in bytes
+     */
+    protected abstract int size(@NotNull ProtocolVersion protocolVersion);
+}
@@ -22,13 +22,13 @@ package com.velocitypowered.proxy.protocol.packet.scoreboard;
 
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
-import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.data.PacketHandler;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import io.netty.buffer.ByteBuf;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,8 +38,7 @@ import org.jetbrains.annotations.NotNull;
 @Getter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
-public class ScorePacket implements MinecraftPacket {
+public class ScorePacket extends PreEncodablePacket {
 
     /** Packet action */
     private ScoreAction action;
@@ -51,8 +50,28 @@ public class ScorePacket implements MinecraftPacket {
     private String objectiveName;
 
     /** Score value */
+    @Setter
     private int value;
 
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   action
+     *          Packet action
+     * @param   scoreHolder
+     *          Score holder who the score belongs to
+     * @param   objectiveName
+     *          Objective where the score should be modified
+     * @param   value
+     *          Score value
+     */
+    public ScorePacket(@NotNull ScoreAction action, @NotNull String scoreHolder, String objectiveName, int value) {
+        this.action = action;
+        this.scoreHolder = scoreHolder;
+        this.objectiveName = objectiveName;
+        this.value = value;
+    }
+
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
         scoreHolder = ProtocolUtils.readString(buf);
@@ -66,19 +85,13 @@ public class ScorePacket implements MinecraftPacket {
     }
 
     @Override
-    public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, scoreHolder);
-        buf.writeByte(action.ordinal());
-        if (protocolVersion.greaterThan(ProtocolVersion.MINECRAFT_1_7_6) || action == ScoreAction.SET) {
-            ProtocolUtils.writeString(buf, objectiveName);
-        }
-        if (action == ScoreAction.SET) {
-            if (protocolVersion.noGreaterThan(ProtocolVersion.MINECRAFT_1_7_6)) {
-                buf.writeInt(value);
-            } else {
-                ProtocolUtils.writeVarInt(buf, value);
-            }
-        }
+    protected void write(@NotNull ByteBuf buf, @NotNull ProtocolVersion protocolVersion) {
+        ScoreboardCodec.of(protocolVersion).writeScore(buf, this);
+    }
+
+    @Override
+    protected int size(@NotNull ProtocolVersion protocolVersion) {
+        return ScoreboardCodec.of(protocolVersion).scoreSize(this);
     }
 
     @Override
@@ -23,6 +23,7 @@ package com.velocitypowered.proxy.protocol.packet.scoreboard;
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.data.PacketHandler;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import io.netty.buffer.ByteBuf;
@@ -54,9 +55,12 @@ public class ScoreResetPacket implements MinecraftPacket {
 
     @Override
     public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, scoreHolder);
-        buf.writeBoolean(objectiveName != null);
-        if (objectiveName != null) ProtocolUtils.writeString(buf, objectiveName);
+        ScoreboardCodec.of(protocolVersion).writeScoreReset(buf, this);
+    }
+
+    @Override
+    public int encodeSizeHint(ProtocolUtils.Direction direction, ProtocolVersion version) {
+        return ScoreboardCodec.of(version).scoreResetSize(this);
     }
 
     @Override
@@ -25,14 +25,15 @@ import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.data.NumberFormatEncoder;
 import com.velocitypowered.proxy.data.PacketHandler;
-import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import io.netty.buffer.ByteBuf;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -41,8 +42,7 @@ import org.jetbrains.annotations.Nullable;
 @Getter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
-public class ScoreSetPacket implements MinecraftPacket {
+public class ScoreSetPacket extends PreEncodablePacket {
 
     /** Score holder who the score belongs to */
     private String scoreHolder;
@@ -51,16 +51,42 @@ public class ScoreSetPacket implements MinecraftPacket {
     private String objectiveName;
 
     /** Score value */
+    @Setter
     private int value;
 
     /** Display name to use for score holder instead of name (1.20.3+) */
     @Nullable
+    @Setter
     private ComponentHolder displayName;
 
     /** Number format of the score, null to use default number format from objective (1.20.3+) */
     @Nullable
+    @Setter
     private NumberFormat numberFormat;
 
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   scoreHolder
+     *          Score holder who the score belongs to
+     * @param   objectiveName
+     *          Objective where the score should be modified
+     * @param   value
+     *          Score value
+     * @param   displayName
+     *          Display name to use for score holder instead of name
+     * @param   numberFormat
+     *          Number format of the score, null to use default number format from objective
+     */
+    public ScoreSetPacket(@NotNull String scoreHolder, @NotNull String objectiveName, int value,
+                          @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+        this.scoreHolder = scoreHolder;
+        this.objectiveName = objectiveName;
+        this.value = value;
+        this.displayName = displayName;
+        this.numberFormat = numberFormat;
+    }
+
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
         scoreHolder = ProtocolUtils.readString(buf);
@@ -71,14 +97,13 @@ public class ScoreSetPacket implements MinecraftPacket {
     }
 
     @Override
-    public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, scoreHolder);
-        ProtocolUtils.writeString(buf, objectiveName);
-        ProtocolUtils.writeVarInt(buf, value);
-        buf.writeBoolean(displayName != null);
-        if (displayName != null) displayName.write(buf);
-        buf.writeBoolean(numberFormat != null);
-        if (numberFormat != null) NumberFormatEncoder.write(buf, protocolVersion, numberFormat);
+    protected void write(@NotNull ByteBuf buf, @NotNull ProtocolVersion protocolVersion) {
+        ScoreboardCodec.of(protocolVersion).writeScoreSet(buf, this);
+    }
+
+    @Override
+    protected int size(@NotNull ProtocolVersion protocolVersion) {
+        return ScoreboardCodec.of(protocolVersion).scoreSetSize(this);
     }
 
     @Override
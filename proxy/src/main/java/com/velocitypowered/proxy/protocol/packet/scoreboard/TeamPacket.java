@@ -23,13 +23,14 @@ package com.velocitypowered.proxy.protocol.packet.scoreboard;
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.proxy.connection.MinecraftSessionHandler;
 import com.velocitypowered.proxy.data.PacketHandler;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import com.velocitypowered.proxy.data.StringCollection;
-import com.velocitypowered.proxy.protocol.MinecraftPacket;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.scoreboard.TeamProperties;
 import io.netty.buffer.ByteBuf;
 import lombok.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Packet for setting scoreboard teams.
@@ -37,8 +38,7 @@ import org.jetbrains.annotations.NotNull;
 @Getter
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
-public class TeamPacket implements MinecraftPacket {
+public class TeamPacket extends PreEncodablePacket {
 
     /** Packet action */
     private TeamAction action;
@@ -52,6 +52,25 @@ public class TeamPacket implements MinecraftPacket {
     /** Players in this team */
     private StringCollection entries;
 
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   action
+     *          Packet action
+     * @param   name
+     *          Team name
+     * @param   properties
+     *          Team properties
+     * @param   entries
+     *          Players in this team
+     */
+    public TeamPacket(@NonNull TeamAction action, @NonNull String name, @Nullable TeamProperties properties, @Nullable StringCollection entries) {
+        this.action = action;
+        this.name = name;
+        this.properties = properties;
+        this.entries = entries;
+    }
+
     /**
      * Creates a packet for unregistering team.
      *
@@ -85,6 +104,25 @@ public class TeamPacket implements MinecraftPacket {
         return packet;
     }
 
+    /**
+     * Creates a packet for adding or removing multiple entries.
+     *
+     * @param   name
+     *          Team name
+     * @param   entries
+     *          Entries to add or remove
+     * @param   add
+     *          {@code true} for adding, {@code false} for removing
+     * @return  Packet with given parameters
+     */
+    public static TeamPacket addOrRemovePlayers(@NonNull String name, @NonNull StringCollection entries, boolean add) {
+        TeamPacket packet = new TeamPacket();
+        packet.name = name;
+        packet.action = (add ? TeamAction.ADD_PLAYER : TeamAction.REMOVE_PLAYER);
+        packet.entries = entries;
+        return packet;
+    }
+
     @Override
     public void decode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
         name = ProtocolUtils.readString(buf);
@@ -98,15 +136,13 @@ public class TeamPacket implements MinecraftPacket {
     }
 
     @Override
-    public void encode(ByteBuf buf, ProtocolUtils.Direction direction, ProtocolVersion protocolVersion) {
-        ProtocolUtils.writeString(buf, name);
-        buf.writeByte(action.ordinal());
-        if (action == TeamAction.REGISTER || action == TeamAction.UPDATE) {
-            properties.encode(buf, protocolVersion);
-        }
-        if (action == TeamAction.REGISTER || action == TeamAction.ADD_PLAYER || action == TeamAction.REMOVE_PLAYER) {
-            entries.write(buf, protocolVersion);
-        }
+    protected void write(@NotNull ByteBuf buf, @NotNull ProtocolVersion protocolVersion) {
+        ScoreboardCodec.of(protocolVersion).writeTeam(buf, this);
+    }
+
+    @Override
+    protected int size(@NotNull ProtocolVersion protocolVersion) {
+        return ScoreboardCodec.of(protocolVersion).teamSize(this);
     }
 
     @Override
@@ -0,0 +1,182 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.scheduler.ScheduledTask;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer wheel driving all animations from a single repeating task. Each slot of the wheel holds
+ * animations due on the tick the slot is reached, with animations due after more than one revolution
+ * waiting for the remaining amount of revolutions. Frame changes due on the same tick are grouped by
+ * viewer and applied in a single task on the viewer's event loop, so they are written by a single
+ * drain of the outbound queue with one flush.
+ * <p>
+ * The task only runs while at least one animation exists.
+ */
+public class AnimationScheduler {
+
+    /** Length of a single tick in milliseconds */
+    public static final int TICK_MILLIS = 50;
+
+    /** Amount of slots in the wheel, must be a power of 2 */
+    private static final int WHEEL_SIZE = 256;
+
+    /** Proxy server to schedule the task with */
+    @NotNull
+    private final ProxyServer server;
+
+    /** Plugin to schedule the task for */
+    @NotNull
+    private final Object plugin;
+
+    /** Animations in each slot of the wheel */
+    private final List<Entry>[] slots;
+
+    /** Index of slot processed on the next tick */
+    private int cursor;
+
+    /** Amount of animations in the wheel */
+    private int size;
+
+    /** Repeating task ticking the wheel, {@code null} if the wheel is empty */
+    @Nullable
+    private ScheduledTask task;
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   server
+     *          Proxy server to schedule the task with
+     * @param   plugin
+     *          Plugin to schedule the task for
+     */
+    @SuppressWarnings("unchecked")
+    public AnimationScheduler(@NonNull ProxyServer server, @NonNull Object plugin) {
+        this.server = server;
+        this.plugin = plugin;
+        slots = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds animation to the wheel, starting the task if it is not running.
+     *
+     * @param   animation
+     *          Animation to add
+     */
+    public synchronized void add(@NonNull VelocityAnimation animation) {
+        insert(new Entry(animation), animation.getIntervalTicks() - 1);
+        if (size++ == 0) {
+            task = server.getScheduler().buildTask(plugin, this::tick).repeat(TICK_MILLIS, TimeUnit.MILLISECONDS).schedule();
+        }
+    }
+
+    /**
+     * Removes animation from the wheel, stopping the task if it was the last one.
+     *
+     * @param   animation
+     *          Animation to remove
+     */
+    public synchronized void remove(@NonNull VelocityAnimation animation) {
+        for (List<Entry> slot : slots) {
+            if (slot.removeIf(entry -> entry.animation == animation)) {
+                if (--size == 0 && task != null) {
+                    task.cancel();
+                    task = null;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Inserts entry into slot given amount of ticks after the slot at cursor.
+     *
+     * @param   entry
+     *          Entry to insert
+     * @param   offset
+     *          Amount of ticks after the next one
+     */
+    private void insert(@NotNull Entry entry, int offset) {
+        entry.rounds = offset / WHEEL_SIZE;
+        slots[(cursor + offset) & (WHEEL_SIZE - 1)].add(entry);
+    }
+
+    private void tick() {
+        List<VelocityAnimation> due = new ArrayList<>();
+        synchronized (this) {
+            List<Entry> slot = slots[cursor];
+            slots[cursor] = new ArrayList<>();
+            cursor = (cursor + 1) & (WHEEL_SIZE - 1);
+            for (Entry entry : slot) {
+                if (entry.rounds > 0) {
+                    entry.rounds--;
+                    slots[(cursor - 1) & (WHEEL_SIZE - 1)].add(entry);
+                } else {
+                    due.add(entry.animation);
+                    insert(entry, entry.animation.getIntervalTicks() - 1);
+                }
+            }
+        }
+        if (due.isEmpty()) return;
+        Map<VelocityScoreboard, List<Runnable>> updates = new HashMap<>();
+        for (VelocityAnimation animation : due) {
+            animation.advance(updates);
+        }
+        for (Map.Entry<VelocityScoreboard, List<Runnable>> entry : updates.entrySet()) {
+            List<Runnable> viewerUpdates = entry.getValue();
+            entry.getKey().getExecutor().execute(() -> {
+                for (Runnable update : viewerUpdates) {
+                    update.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Position of an animation in the wheel.
+     */
+    private static class Entry {
+
+        /** Animation in this position */
+        @NotNull
+        private final VelocityAnimation animation;
+
+        /** Amount of revolutions left before the animation is due */
+        private int rounds;
+
+        private Entry(@NotNull VelocityAnimation animation) {
+            this.animation = animation;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Model of what the proxy currently owns on the client, updated incrementally as proxy
+ * packets are written. Anything not owned by the proxy belongs to the backend, which is tracked
+ * by the downstream scoreboard. This allows resolving conflicts between proxy and backend with
+ * constant-time lookups instead of scanning all display slots.
+ * <p>
+ * Unlike proxy scoreboard maps, which are modified by API calls from any thread, this view
+ * reflects packets in the order they were sent. It is only accessed from the viewer's event loop.
+ */
+public class ClientView {
+
+    /** Names of objectives registered on the client by the proxy */
+    private final Set<String> objectives = new HashSet<>();
+
+    /** Objective displayed by the proxy in each display slot on the client */
+    private final Map<DisplaySlot, String> slots = new EnumMap<>(DisplaySlot.class);
+
+    /** Display slots occupied by each proxy objective on the client */
+    private final Map<String, EnumSet<DisplaySlot>> slotsByObjective = new HashMap<>();
+
+    /**
+     * Returns {@code true} if objective with given name is registered on the client by the proxy,
+     * {@code false} if not.
+     *
+     * @param   objectiveName
+     *          Objective name to check
+     * @return  {@code true} if proxy owns this objective name, {@code false} if not
+     */
+    public boolean ownsObjective(@NonNull String objectiveName) {
+        return objectives.contains(objectiveName);
+    }
+
+    /**
+     * Returns {@code true} if the proxy is displaying an objective in given slot on the client,
+     * {@code false} if not.
+     *
+     * @param   slot
+     *          Display slot to check
+     * @return  {@code true} if proxy owns this slot, {@code false} if not
+     */
+    public boolean ownsSlot(@NonNull DisplaySlot slot) {
+        return slots.containsKey(slot);
+    }
+
+    /**
+     * Records registration of a proxy objective.
+     *
+     * @param   objectiveName
+     *          Name of registered objective
+     */
+    public void registerObjective(@NonNull String objectiveName) {
+        objectives.add(objectiveName);
+    }
+
+    /**
+     * Records unregistration of a proxy objective and returns display slots it occupied,
+     * which are now empty on the client.
+     *
+     * @param   objectiveName
+     *          Name of unregistered objective
+     * @return  Slots freed by this objective, {@code null} if it was not displayed
+     */
+    @Nullable
+    public EnumSet<DisplaySlot> unregisterObjective(@NonNull String objectiveName) {
+        objectives.remove(objectiveName);
+        EnumSet<DisplaySlot> freed = slotsByObjective.remove(objectiveName);
+        if (freed != null) {
+            for (DisplaySlot slot : freed) {
+                slots.remove(slot);
+            }
+        }
+        return freed;
+    }
+
+    /**
+     * Records a proxy objective being displayed in a slot. Returns {@code false} if the client
+     * already displays this objective in this slot and packet does not need to be sent.
+     *
+     * @param   slot
+     *          Display slot
+     * @param   objectiveName
+     *          Displayed objective
+     * @return  {@code true} if the client state changed, {@code false} if not
+     */
+    public boolean display(@NonNull DisplaySlot slot, @NonNull String objectiveName) {
+        String previous = slots.put(slot, objectiveName);
+        if (objectiveName.equals(previous)) return false;
+        if (previous != null) {
+            EnumSet<DisplaySlot> previousSlots = slotsByObjective.get(previous);
+            if (previousSlots != null && previousSlots.remove(slot) && previousSlots.isEmpty()) {
+                slotsByObjective.remove(previous);
+            }
+        }
+        slotsByObjective.computeIfAbsent(objectiveName, k -> EnumSet.noneOf(DisplaySlot.class)).add(slot);
+        return true;
+    }
+
+    /**
+     * Releases all slots of given objective except the specified one, because proxy objectives
+     * only occupy a single slot. Released slots still show the objective on the client until
+     * something else is displayed in them.
+     *
+     * @param   objectiveName
+     *          Objective that was moved
+     * @param   slot
+     *          Slot the objective was moved to
+     * @return  Released slots, {@code null} if there were none
+     */
+    @Nullable
+    public EnumSet<DisplaySlot> releaseOtherSlots(@NonNull String objectiveName, @NonNull DisplaySlot slot) {
+        EnumSet<DisplaySlot> objectiveSlots = slotsByObjective.get(objectiveName);
+        if (objectiveSlots == null || objectiveSlots.size() == 1) return null;
+        EnumSet<DisplaySlot> released = EnumSet.copyOf(objectiveSlots);
+        released.remove(slot);
+        objectiveSlots.retainAll(EnumSet.of(slot));
+        for (DisplaySlot releasedSlot : released) {
+            slots.remove(releasedSlot);
+        }
+        return released;
+    }
+
+    /**
+     * Forgets everything, used when the client's scoreboard is reset.
+     */
+    public void clear() {
+        objectives.clear();
+        slots.clear();
+        slotsByObjective.clear();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which backend server each player is connected to. Below name scores and nametag-only
+ * team entries of a player are only visible to viewers on the same server, so with interest
+ * scoping enabled, they are only sent to those viewers and added or removed as players move
+ * between servers.
+ */
+public class InterestManager {
+
+    /** Whether below name scores and nametag-only team entries should only be sent to viewers on the same server */
+    @Getter
+    @Setter
+    private static boolean enabled = false;
+
+    /** Backend server names by player names */
+    private final Map<String, String> servers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns name of the backend server given player is connected to, {@code null} if the name
+     * does not belong to a player connected to a server.
+     *
+     * @param   player
+     *          Name of player to get server of
+     * @return  Name of player's server, {@code null} if not connected to any
+     */
+    @Nullable
+    public String getServer(@NonNull String player) {
+        return servers.get(player);
+    }
+
+    /**
+     * Sets backend server of given player.
+     *
+     * @param   player
+     *          Name of player who connected to a server
+     * @param   server
+     *          Name of the server
+     */
+    public void setServer(@NonNull String player, @NonNull String server) {
+        servers.put(player, server);
+    }
+
+    /**
+     * Forgets server of a player who disconnected.
+     *
+     * @param   player
+     *          Name of player who disconnected
+     */
+    public void remove(@NonNull String player) {
+        servers.remove(player);
+    }
+
+    /**
+     * Returns {@code true} if holder is visible to viewer, which is when the holder is not a player
+     * connected to a server or is connected to the same server as the viewer.
+     *
+     * @param   viewer
+     *          Name of the viewer
+     * @param   holder
+     *          Score holder or team entry
+     * @return  {@code true} if holder is in viewer's interest, {@code false} if not
+     */
+    public boolean isInInterest(@NonNull String viewer, @NonNull String holder) {
+        String server = servers.get(holder);
+        return server == null || server.equals(servers.get(viewer));
+    }
+}
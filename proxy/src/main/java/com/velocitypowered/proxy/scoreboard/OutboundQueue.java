@@ -0,0 +1,821 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.proxy.connection.MinecraftConnection;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbound scoreboard packet queue of a single viewer. Packets are sorted into priority lanes
+ * and written to the channel by a drain task on the viewer's event loop, which writes lanes in
+ * order of their priority, each limited by a budget per drain, and flushes the channel once per
+ * drain. This way a bulk team rebuild does not delay an update of the sidebar the player is
+ * looking at.
+ * <p>
+ * Ordering is preserved within a single team or objective by keeping all pending packets of it in
+ * one lane. Packets that affect the scoreboard globally (display slot changes, global score resets)
+ * act as barriers, which are only written after everything queued before them. Team registrations
+ * and entry changes stay in order with each other, because an entry can only be in one team.
+ * Backend packets are not queued, so everything pending is written before one is forwarded.
+ * <p>
+ * While a packet is pending, a newer packet modifying the same thing replaces it (for example,
+ * the same score updated 20 times results in a single packet). This happens when the channel is
+ * not writable (client is not reading fast enough), in which case the queue is not drained until
+ * it becomes writable again, and for cosmetic updates while the proxy is overloaded
+ * (see {@link OverloadController}), which are then only drained once per configured interval.
+ * Other packets are still written right away, together with the cosmetic packets they must follow,
+ * which are everything queued before a barrier and earlier packets of the same team, objective or score.
+ * <p>
+ * This class is not thread-safe, it must only be accessed from the viewer's event loop.
+ */
+public class OutboundQueue {
+
+    /** Name of the channel handler listening to writability changes */
+    private static final String HANDLER_NAME = "VelocityScoreboardAPI-backpressure";
+
+    /** Amount of pending packets after which they are written regardless of channel writability */
+    private static final int MAX_PENDING_PACKETS = 4096;
+
+    /** Maximum amount of drained segments kept for reuse */
+    private static final int MAX_POOLED_SEGMENTS = 16;
+
+    /** Lanes in order of their priority */
+    private static final Lane[] LANES = Lane.values();
+
+    /** Display slots, cached to prevent new array instantiation on each .values() call */
+    private static final DisplaySlot[] SLOTS = DisplaySlot.values();
+
+    /** Whether packets should be coalesced while the channel is not writable */
+    @Setter
+    private static boolean coalesceWhenUnwritable = true;
+
+    /** Viewer to send packets to */
+    @NotNull
+    private final ConnectedPlayer viewer;
+
+    /** Filter dropping packets which would not change anything on the client */
+    @NotNull
+    private final RedundantPacketFilter filter;
+
+    /** Pending packets split into segments by barriers, oldest first */
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+
+    /** Drained segments available for reuse */
+    private final ArrayDeque<Segment> segmentPool = new ArrayDeque<>();
+
+    /** Written nodes available for reuse */
+    private final ArrayDeque<Node> nodePool = new ArrayDeque<>();
+
+    /** Owners of teams by team name, kept while the team is registered */
+    private final Map<String, Owner> teams = new HashMap<>();
+
+    /** Owners of objectives by objective name, kept while the objective is registered */
+    private final Map<String, Owner> objectives = new HashMap<>();
+
+    /** Objectives displayed in slots as seen by the client once pending packets are written, indexed by slot ordinal */
+    private final String[] displayedObjectives = new String[SLOTS.length];
+
+    /** Task draining the queue, allocated once */
+    private final Runnable drainTask = this::drain;
+
+    /** Task draining the queue after cosmetic updates were delayed, allocated once */
+    private final Runnable delayedDrainTask = this::delayedDrain;
+
+    /** Remaining budget of each lane in the current drain, reset at the start of each drain */
+    private final int[] budgets = new int[LANES.length];
+
+    /** Amount of pending packets in all segments */
+    private int pendingCount;
+
+    /** Counter for generating unique segment ids, so owners can tell a reused segment apart */
+    private long segmentSequence;
+
+    /** Flag tracking whether a team or objective was unregistered or a score was reset since last pruning */
+    private boolean pruneNeeded;
+
+    /** Amount of pending packets which should not be delayed by overload, excluding barriers */
+    private int urgentCount;
+
+    /** Amount of pending barriers */
+    private int barrierCount;
+
+    /** Flag tracking whether writability handler was injected into the channel */
+    private boolean handlerInjected;
+
+    /** Flag tracking whether drain task is scheduled */
+    private boolean drainScheduled;
+
+    /** Flag tracking whether a delayed drain of cosmetic updates is scheduled */
+    private boolean delayedDrainScheduled;
+
+    /**
+     * Constructs new instance and starts watching viewer's event loop for overload.
+     *
+     * @param   viewer
+     *          Viewer to send packets to
+     * @param   filter
+     *          Filter for dropping redundant packets
+     */
+    public OutboundQueue(@NonNull ConnectedPlayer viewer, @NonNull RedundantPacketFilter filter) {
+        this.viewer = viewer;
+        this.filter = filter;
+        OverloadController.watch(viewer.getConnection().eventLoop());
+    }
+
+    /**
+     * Queues packet to be written to the viewer by the drain task. Team registration packets
+     * must carry a snapshot of entries, which is not modified anymore. Owners, coalescing keys,
+     * segments and nodes are reused, so queueing an update of a known team, objective or score
+     * does not allocate.
+     *
+     * @param   packet
+     *          Packet to write
+     */
+    public void write(@NonNull MinecraftPacket packet) {
+        Owner owner = owner(packet);
+        if (owner == null) {
+            // Barrier, write after everything pending
+            updateDisplayedObjectives(packet);
+            Segment segment = openSegment();
+            segment.barrier = packet;
+            segment.closed = true;
+            pendingCount++;
+            barrierCount++;
+        } else {
+            if (packet instanceof ObjectivePacket objective && objective.getAction() == ObjectivePacket.ObjectiveAction.UNREGISTER) {
+                // Client clears display slots
+                for (int i = 0; i < displayedObjectives.length; i++) {
+                    if (objective.getObjectiveName().equals(displayedObjectives[i])) displayedObjectives[i] = null;
+                }
+            }
+            boolean cosmetic = isCosmetic(packet);
+            enqueue(owner, coalescingKey(owner, packet), lane(packet), packet instanceof TeamPacket team && team.getAction() != TeamPacket.TeamAction.UPDATE, cosmetic, packet);
+            if (cosmetic && OverloadController.isOverloaded()) OverloadController.recordDelayed();
+        }
+        scheduleDrain();
+    }
+
+    private void enqueue(@NotNull Owner owner, @Nullable Key key, @NotNull Lane lane, boolean pinned, boolean cosmetic, @NotNull MinecraftPacket packet) {
+        Segment segment = openSegment();
+        if (owner.segmentId != segment.id) {
+            owner.segmentId = segment.id;
+            owner.lane = lane;
+        } else if (owner.lane != lane) {
+            if (pinned) {
+                // Packet must stay in its lane, write it after everything pending of this owner
+                segment.closed = true;
+                segment = openSegment();
+                owner.segmentId = segment.id;
+                owner.lane = lane;
+            } else {
+                lane = owner.lane; // Keep order within the owner
+            }
+        }
+        Node node;
+        if (key != null && key.node != null && key.node.segment == segment && key.node.lane == lane) {
+            // Re-insert at the end to keep order relative to non-replaceable packets
+            node = key.node;
+            segment.unlink(node);
+            track(node, -1);
+            OverloadController.recordCoalesced();
+            pendingCount--;
+        } else {
+            // Packets pending in an older segment are not replaced, as a barrier must stay between them
+            node = nodePool.pollFirst();
+            if (node == null) node = new Node();
+            node.key = key;
+            if (key != null) key.node = node;
+        }
+        node.packet = packet;
+        node.owner = owner;
+        node.cosmetic = cosmetic;
+        track(node, 1);
+        segment.append(node, lane);
+        pendingCount++;
+    }
+
+    /**
+     * Adjusts counters of pending urgent packets by given amount if the node is not cosmetic. Urgent score
+     * resets are counted by their key, other urgent packets by their owner, as those are the packets
+     * that must be written before them.
+     *
+     * @param   node
+     *          Node to count
+     * @param   delta
+     *          Amount to add to counters
+     */
+    private void track(@NotNull Node node, int delta) {
+        if (node.cosmetic) return;
+        urgentCount += delta;
+        if (node.key != null) {
+            node.key.urgentNodes += delta;
+        } else {
+            node.owner.urgentNodes += delta;
+        }
+    }
+
+    @NotNull
+    private Segment openSegment() {
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.closed) {
+            segment = segmentPool.pollFirst();
+            if (segment == null) segment = new Segment();
+            segment.id = ++segmentSequence;
+            segments.addLast(segment);
+        }
+        return segment;
+    }
+
+    private void updateDisplayedObjectives(@NotNull MinecraftPacket packet) {
+        if (packet instanceof DisplayObjectivePacket display) {
+            String objectiveName = display.getObjectiveName();
+            displayedObjectives[display.getPosition().ordinal()] = objectiveName.isEmpty() ? null : objectiveName;
+        }
+    }
+
+    private void scheduleDrain() {
+        boolean overloaded = OverloadController.isOverloaded();
+        if (!drainScheduled && (!overloaded || urgentCount > 0 || barrierCount > 0 || pendingCount >= MAX_PENDING_PACKETS)) {
+            drainScheduled = true;
+            viewer.getConnection().eventLoop().execute(drainTask);
+        }
+        if (!delayedDrainScheduled && overloaded && pendingCount > urgentCount + barrierCount) {
+            delayedDrainScheduled = true;
+            viewer.getConnection().eventLoop().schedule(delayedDrainTask,
+                    OverloadController.getCosmeticUpdateIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain() {
+        drainScheduled = false;
+        drain(!OverloadController.isOverloaded() || pendingCount >= MAX_PENDING_PACKETS);
+    }
+
+    private void delayedDrain() {
+        delayedDrainScheduled = false;
+        drain(true);
+    }
+
+    /**
+     * Writes pending packets to the channel lane by lane, respecting budget of each lane,
+     * and flushes the channel. If anything is left, another drain is scheduled.
+     *
+     * @param   cosmetic
+     *          Whether cosmetic packets should be written as well, or only the packets
+     *          which should not be delayed and the packets they must follow
+     */
+    private void drain(boolean cosmetic) {
+        if (pendingCount == 0) return;
+        MinecraftConnection connection = viewer.getConnection();
+        Channel channel = connection.getChannel();
+        if (coalesceWhenUnwritable && !channel.isWritable() && pendingCount < MAX_PENDING_PACKETS) {
+            injectHandler(channel); // Writability handler will drain once the client catches up
+            return;
+        }
+        for (Lane lane : LANES) {
+            budgets[lane.ordinal()] = lane.budget;
+        }
+        if (cosmetic) {
+            writeSegments(connection);
+        } else {
+            writeUrgent(connection);
+        }
+        connection.flush();
+        if (pendingCount == 0) {
+            if (pruneNeeded) prune();
+        } else {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Writes all pending packets right away regardless of lane budgets, overload and channel writability,
+     * without flushing. This is used before a backend scoreboard packet is forwarded, so it cannot overtake
+     * packets queued before it, such as a backend team or objective rebuilt from the backend state at that time.
+     */
+    public void writePending() {
+        if (pendingCount == 0) return;
+        Arrays.fill(budgets, Integer.MAX_VALUE);
+        writeSegments(viewer.getConnection());
+        if (pruneNeeded) prune();
+    }
+
+    /**
+     * Returns {@code true} if a score packet previously written to this queue can be modified and written
+     * again, which is when it was already written to the channel or is still pending in the open segment,
+     * where writing it again replaces it. Returns {@code false} if it may still be pending in an older
+     * segment, where modifying it would change a packet that must be written before a barrier.
+     *
+     * @param   packet
+     *          Previously written score packet
+     * @param   objectiveName
+     *          Objective of the score
+     * @param   holder
+     *          Holder of the score
+     * @return  {@code true} if the packet can be reused, {@code false} if not
+     */
+    public boolean isReusable(@NonNull MinecraftPacket packet, @NonNull String objectiveName, @NonNull String holder) {
+        Owner owner = objectives.get(objectiveName);
+        if (owner == null || owner.scores == null) return true;
+        Key key = owner.scores.get(holder);
+        if (key == null || key.node == null) return true; // Nothing pending for this score
+        if (key.node.packet != packet) return false; // A newer packet is pending, this one may be in an older segment
+        Segment open = segments.peekLast();
+        return key.node.segment == open && !open.closed;
+    }
+
+    /**
+     * Writes pending packets segment by segment until a lane runs out of its budget.
+     *
+     * @param   connection
+     *          Connection to write packets to
+     */
+    private void writeSegments(@NotNull MinecraftConnection connection) {
+        Segment segment;
+        while ((segment = segments.peekFirst()) != null) {
+            if (!writeNodes(connection, segment, true)) break;
+            finishSegment(connection);
+        }
+    }
+
+    /**
+     * Writes packets which should not be delayed by overload, together with the packets they must follow,
+     * until a lane runs out of its budget. Everything before the last pending barrier is written, as it must
+     * precede the barrier. In the remaining segments, cosmetic packets are only written if a later urgent
+     * packet of the same team, objective or score is pending, everything else stays for the delayed drain.
+     *
+     * @param   connection
+     *          Connection to write packets to
+     */
+    private void writeUrgent(@NotNull MinecraftConnection connection) {
+        Segment segment;
+        while (barrierCount > 0 && (segment = segments.peekFirst()) != null) {
+            if (!writeNodes(connection, segment, true)) return;
+            finishSegment(connection);
+        }
+        if (urgentCount == 0) return;
+        for (Segment pending : segments) {
+            // Later segments may contain packets which must follow the ones left in this segment
+            if (!writeNodes(connection, pending, false)) return;
+        }
+        while ((segment = segments.peekFirst()) != null && segment.isEmpty()) {
+            finishSegment(connection);
+        }
+    }
+
+    /**
+     * Writes pending packets of a segment lane by lane, until a lane runs out of its budget.
+     *
+     * @param   connection
+     *          Connection to write packets to
+     * @param   segment
+     *          Segment to write packets of
+     * @param   cosmetic
+     *          Whether cosmetic packets which no urgent packet must follow should be written as well
+     * @return  {@code true} if no lane ran out of its budget, {@code false} if some did
+     */
+    private boolean writeNodes(@NotNull MinecraftConnection connection, @NotNull Segment segment, boolean cosmetic) {
+        boolean exhausted = false;
+        for (Lane lane : LANES) {
+            Node node = segment.heads[lane.ordinal()];
+            while (node != null) {
+                Node next = node.next;
+                if (cosmetic || !node.cosmetic || node.owner.urgentNodes > 0 || (node.key != null && node.key.urgentNodes > 0)) {
+                    if (budgets[lane.ordinal()] == 0) {
+                        exhausted = true;
+                        break;
+                    }
+                    MinecraftPacket packet = node.packet;
+                    segment.unlink(node);
+                    release(node);
+                    if (!filter.isRedundant(packet)) connection.delayedWrite(packet);
+                    budgets[lane.ordinal()]--;
+                    pendingCount--;
+                }
+                node = next;
+            }
+        }
+        return !exhausted;
+    }
+
+    /**
+     * Writes barrier of the first segment, whose packets were all written, and returns the segment to the pool.
+     *
+     * @param   connection
+     *          Connection to write barrier to
+     */
+    private void finishSegment(@NotNull MinecraftConnection connection) {
+        Segment segment = segments.pollFirst();
+        if (segment.barrier != null) {
+            if (!filter.isRedundant(segment.barrier)) connection.delayedWrite(segment.barrier);
+            pendingCount--;
+            barrierCount--;
+        }
+        segment.reset();
+        if (segmentPool.size() < MAX_POOLED_SEGMENTS) segmentPool.addLast(segment);
+    }
+
+    /**
+     * Returns written node to the pool and detaches it from its coalescing key.
+     *
+     * @param   node
+     *          Node to release
+     */
+    private void release(@NotNull Node node) {
+        track(node, -1);
+        if (node.key != null && node.key.node == node) node.key.node = null;
+        node.key = null;
+        node.owner = null;
+        node.packet = null;
+        if (nodePool.size() < MAX_PENDING_PACKETS) nodePool.addLast(node);
+    }
+
+    /**
+     * Forgets owners of unregistered teams and objectives and keys of reset scores, so they do not
+     * accumulate over time. Only called when nothing is pending, so no node refers to them anymore.
+     */
+    private void prune() {
+        pruneNeeded = false;
+        teams.values().removeIf(owner -> owner.unregistered);
+        objectives.values().removeIf(owner -> owner.unregistered);
+        for (Owner owner : objectives.values()) {
+            if (owner.scores != null) owner.scores.values().removeIf(key -> key.reset);
+        }
+    }
+
+    /**
+     * Drops all pending packets. This is used when the client resets its scoreboard,
+     * making all pending changes irrelevant.
+     */
+    public void clear() {
+        Segment segment;
+        while ((segment = segments.pollFirst()) != null) {
+            for (Lane lane : LANES) {
+                Node node;
+                while ((node = segment.heads[lane.ordinal()]) != null) {
+                    segment.unlink(node);
+                    release(node);
+                }
+            }
+            segment.reset();
+            if (segmentPool.size() < MAX_POOLED_SEGMENTS) segmentPool.addLast(segment);
+        }
+        teams.clear();
+        objectives.clear();
+        Arrays.fill(displayedObjectives, null);
+        pendingCount = 0;
+        urgentCount = 0;
+        barrierCount = 0;
+        pruneNeeded = false;
+    }
+
+    private void injectHandler(@NonNull Channel channel) {
+        if (handlerInjected) return;
+        handlerInjected = true;
+        try {
+            channel.pipeline().addBefore("handler", HANDLER_NAME, new WritabilityHandler());
+        } catch (NoSuchElementException | IllegalArgumentException e) {
+            // java.util.NoSuchElementException: handler
+            // Looks like player left in the meantime
+        }
+    }
+
+    /**
+     * Returns team or objective modified by this packet, whose packets must stay in order,
+     * or {@code null} if this packet affects the entire scoreboard and must act as a barrier.
+     * Owner is created on first packet of the team or objective and marked for removal once
+     * it is unregistered.
+     *
+     * @param   packet
+     *          Packet to get owner of
+     * @return  Owner of the packet or {@code null} if packet is a barrier
+     */
+    @Nullable
+    private Owner owner(@NotNull MinecraftPacket packet) {
+        if (packet instanceof TeamPacket team) {
+            return owner(teams, team.getName(), team.getAction() == TeamPacket.TeamAction.UNREGISTER);
+        }
+        if (packet instanceof ObjectivePacket objective) {
+            return owner(objectives, objective.getObjectiveName(), objective.getAction() == ObjectivePacket.ObjectiveAction.UNREGISTER);
+        }
+        if (packet instanceof ScoreSetPacket score) return owner(objectives, score.getObjectiveName(), false);
+        if (packet instanceof ScorePacket score && score.getObjectiveName() != null) return owner(objectives, score.getObjectiveName(), false);
+        if (packet instanceof ScoreResetPacket reset && reset.getObjectiveName() != null) return owner(objectives, reset.getObjectiveName(), false);
+        return null;
+    }
+
+    @NotNull
+    private Owner owner(@NotNull Map<String, Owner> owners, @NotNull String name, boolean unregister) {
+        Owner owner = owners.computeIfAbsent(name, n -> new Owner());
+        owner.unregistered = unregister;
+        if (unregister) pruneNeeded = true;
+        return owner;
+    }
+
+    /**
+     * Returns lane this packet belongs to, if its owner has no other packets pending.
+     *
+     * @param   packet
+     *          Packet to get lane of
+     * @return  Preferred lane of the packet
+     */
+    @NotNull
+    private Lane lane(@NotNull MinecraftPacket packet) {
+        if (packet instanceof TeamPacket team) {
+            return team.getAction() == TeamPacket.TeamAction.UPDATE ? Lane.NAMETAG : Lane.BULK;
+        }
+        String objectiveName;
+        if (packet instanceof ObjectivePacket objective) {
+            if (objective.getAction() != ObjectivePacket.ObjectiveAction.UPDATE) return Lane.STRUCTURAL;
+            objectiveName = objective.getObjectiveName();
+        } else if (packet instanceof ScoreSetPacket score) {
+            objectiveName = score.getObjectiveName();
+        } else if (packet instanceof ScorePacket score) {
+            objectiveName = score.getObjectiveName();
+        } else if (packet instanceof ScoreResetPacket reset) {
+            objectiveName = reset.getObjectiveName();
+        } else {
+            return Lane.BULK;
+        }
+        Lane lane = Lane.BULK;
+        for (DisplaySlot slot : SLOTS) {
+            if (!objectiveName.equals(displayedObjectives[slot.ordinal()])) continue;
+            if (slot == DisplaySlot.BELOW_NAME) {
+                lane = Lane.NAMETAG;
+            } else if (slot != DisplaySlot.PLAYER_LIST) {
+                return Lane.SIDEBAR;
+            }
+        }
+        return lane;
+    }
+
+    /**
+     * Returns key under which this packet can replace previous packet with the same key
+     * or {@code null} if this packet cannot replace any other packet. Keys are kept in the
+     * owner and reused for all packets of the same score or the same team / objective update.
+     *
+     * @param   owner
+     *          Owner of the packet
+     * @param   packet
+     *          Packet to get key of
+     * @return  Coalescing key or {@code null} if packet cannot be coalesced
+     */
+    @Nullable
+    private Key coalescingKey(@NotNull Owner owner, @NotNull MinecraftPacket packet) {
+        if (packet instanceof ScoreSetPacket score) {
+            return scoreKey(owner, score.getScoreHolder(), false);
+        }
+        if (packet instanceof ScorePacket score) {
+            return scoreKey(owner, score.getScoreHolder(), score.getAction() != ScorePacket.ScoreAction.SET);
+        }
+        if (packet instanceof ScoreResetPacket reset) {
+            return scoreKey(owner, reset.getScoreHolder(), true);
+        }
+        if ((packet instanceof TeamPacket team && team.getAction() == TeamPacket.TeamAction.UPDATE) ||
+                (packet instanceof ObjectivePacket objective && objective.getAction() == ObjectivePacket.ObjectiveAction.UPDATE)) {
+            if (owner.update == null) owner.update = new Key();
+            return owner.update;
+        }
+        return null;
+    }
+
+    @NotNull
+    private Key scoreKey(@NotNull Owner owner, @NotNull String holder, boolean reset) {
+        if (owner.scores == null) owner.scores = new HashMap<>();
+        Key key = owner.scores.computeIfAbsent(holder, h -> new Key());
+        key.reset = reset;
+        if (reset) pruneNeeded = true;
+        return key;
+    }
+
+    /**
+     * Returns {@code true} if packet only changes visuals and can be delayed while the proxy
+     * is overloaded, {@code false} if not.
+     *
+     * @param   packet
+     *          Packet to check
+     * @return  {@code true} if packet is cosmetic, {@code false} if not
+     */
+    private static boolean isCosmetic(@NotNull MinecraftPacket packet) {
+        if (packet instanceof ScoreSetPacket) return true;
+        if (packet instanceof ScorePacket score) return score.getAction() == ScorePacket.ScoreAction.SET;
+        if (packet instanceof TeamPacket team) return team.getAction() == TeamPacket.TeamAction.UPDATE;
+        if (packet instanceof ObjectivePacket objective) return objective.getAction() == ObjectivePacket.ObjectiveAction.UPDATE;
+        return false;
+    }
+
+    /**
+     * Lanes of pending packets in order of their priority.
+     */
+    @RequiredArgsConstructor
+    private enum Lane {
+
+        /** Objective registrations and removals */
+        STRUCTURAL(Integer.MAX_VALUE),
+
+        /** Updates of objectives displayed in a sidebar slot */
+        SIDEBAR(128),
+
+        /** Team property updates and updates of objectives displayed below name */
+        NAMETAG(128),
+
+        /** Team registrations, entry changes and everything else */
+        BULK(256);
+
+        /** Maximum amount of packets written from this lane in a single drain */
+        private final int budget;
+    }
+
+    /**
+     * Pending packets between two barriers. Packets of each lane form a linked list of nodes,
+     * so appending, replacing and writing packets does not allocate. Segments are reset and
+     * reused once drained.
+     */
+    private static class Segment {
+
+        /** First pending node of each lane, indexed by lane ordinal */
+        private final Node[] heads = new Node[LANES.length];
+
+        /** Last pending node of each lane, indexed by lane ordinal */
+        private final Node[] tails = new Node[LANES.length];
+
+        /** Unique id of this segment since it was last opened */
+        private long id;
+
+        /** Packet to write after everything in this segment */
+        @Nullable
+        private MinecraftPacket barrier;
+
+        /** Flag tracking whether new packets must go into a new segment */
+        private boolean closed;
+
+        private void append(@NotNull Node node, @NotNull Lane lane) {
+            int index = lane.ordinal();
+            node.segment = this;
+            node.lane = lane;
+            node.prev = tails[index];
+            node.next = null;
+            if (tails[index] == null) {
+                heads[index] = node;
+            } else {
+                tails[index].next = node;
+            }
+            tails[index] = node;
+        }
+
+        private void unlink(@NotNull Node node) {
+            int index = node.lane.ordinal();
+            if (node.prev == null) {
+                heads[index] = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tails[index] = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.segment = null;
+            node.lane = null;
+        }
+
+        private boolean isEmpty() {
+            for (Node head : heads) {
+                if (head != null) return false;
+            }
+            return true;
+        }
+
+        private void reset() {
+            Arrays.fill(heads, null);
+            Arrays.fill(tails, null);
+            barrier = null;
+            closed = false;
+        }
+    }
+
+    /**
+     * Pending packet linked into a lane of a segment.
+     */
+    private static class Node {
+
+        /** Pending packet */
+        @Nullable
+        private MinecraftPacket packet;
+
+        /** Key this packet can be replaced under, {@code null} if it cannot be replaced */
+        @Nullable
+        private Key key;
+
+        /** Team or objective of this packet, {@code null} if not pending */
+        @Nullable
+        private Owner owner;
+
+        /** Flag tracking whether this packet can be delayed while the proxy is overloaded */
+        private boolean cosmetic;
+
+        /** Segment this node is linked into, {@code null} if not linked */
+        @Nullable
+        private Segment segment;
+
+        /** Lane this node is linked into, {@code null} if not linked */
+        @Nullable
+        private Lane lane;
+
+        /** Previous node in the lane */
+        @Nullable
+        private Node prev;
+
+        /** Next node in the lane */
+        @Nullable
+        private Node next;
+    }
+
+    /**
+     * Team or objective whose pending packets must stay in order.
+     */
+    private static class Owner {
+
+        /** Id of the segment this owner last had packets queued in */
+        private long segmentId;
+
+        /** Lane of packets of this owner in segment {@link #segmentId} */
+        @Nullable
+        private Lane lane;
+
+        /** Key of team / objective property updates, created on first update */
+        @Nullable
+        private Key update;
+
+        /** Keys of scores of an objective by score holder, created on first score */
+        @Nullable
+        private Map<String, Key> scores;
+
+        /** Amount of pending urgent packets of this owner without a key, which earlier packets of this owner must precede */
+        private int urgentNodes;
+
+        /** Flag tracking whether last packet of this owner unregistered it */
+        private boolean unregistered;
+    }
+
+    /**
+     * Key under which a newer packet replaces the pending one.
+     */
+    private static class Key {
+
+        /** Node with pending packet of this key, {@code null} if nothing is pending */
+        @Nullable
+        private Node node;
+
+        /** Amount of pending urgent packets of this key, which earlier packets of this key must precede */
+        private int urgentNodes;
+
+        /** Flag tracking whether last packet of this key reset the score */
+        private boolean reset;
+    }
+
+    /**
+     * Channel handler draining pending packets once the channel becomes writable again.
+     */
+    private class WritabilityHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelWritabilityChanged(@NotNull ChannelHandlerContext ctx) throws Exception {
+            if (ctx.channel().isWritable()) drain();
+            super.channelWritabilityChanged(ctx);
+        }
+    }
+}
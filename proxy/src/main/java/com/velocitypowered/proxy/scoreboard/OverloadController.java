@@ -0,0 +1,230 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+
+package com.velocitypowered.proxy.scoreboard;
+
+import io.netty.channel.EventLoop;
+import lombok.NonNull;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Proxy-wide overload detection. Every event loop used by a player connection is periodically
+ * probed by a scheduled task, measuring how late the task runs. When the lag of any event loop
+ * exceeds the configured threshold (busy event loops, GC pauses), cosmetic scoreboard updates
+ * (score values, team properties, objective titles) are sent at a reduced rate and merged,
+ * leaving more room for gameplay packets. Structural changes are never delayed.
+ */
+public class OverloadController {
+
+    /** How often event loops are probed */
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Whether overload shedding is enabled, read from every event loop */
+    @Setter
+    private static volatile boolean enabled = true;
+
+    /** Event loop lag above which the proxy is considered overloaded */
+    private static volatile long lagThresholdNanos = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /** Interval in which cosmetic updates are sent while overloaded */
+    private static volatile long cosmeticUpdateIntervalMillis = 250;
+
+    /** Probes of all watched event loops */
+    private static final Map<EventLoop, LagProbe> probes = new ConcurrentHashMap<>();
+
+    /** Flag tracking if the proxy is currently overloaded, only changed while holding the class lock */
+    private static volatile boolean overloaded;
+
+    /** Time when current overload started, guarded by the class lock */
+    private static long overloadStart;
+
+    /** Amount of times the proxy entered the overloaded state, guarded by the class lock */
+    private static long overloadCount;
+
+    /** Total time spent in overloaded state excluding the current period, guarded by the class lock */
+    private static long overloadNanos;
+
+    /** Amount of cosmetic packets that were delayed because of overload */
+    private static final LongAdder delayedPackets = new LongAdder();
+
+    /** Amount of packets dropped because they were replaced by a newer one before being sent */
+    private static final LongAdder coalescedPackets = new LongAdder();
+
+    /**
+     * Sets event loop lag threshold above which the proxy is considered overloaded.
+     *
+     * @param   millis
+     *          Threshold in milliseconds
+     */
+    public static void setLagThresholdMillis(long millis) {
+        lagThresholdNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Sets the interval in which cosmetic updates are sent while the proxy is overloaded.
+     *
+     * @param   millis
+     *          Interval in milliseconds
+     */
+    public static void setCosmeticUpdateIntervalMillis(long millis) {
+        cosmeticUpdateIntervalMillis = millis;
+    }
+
+    /**
+     * Returns the interval in which cosmetic updates are sent while the proxy is overloaded.
+     *
+     * @return  Interval in milliseconds
+     */
+    public static long getCosmeticUpdateIntervalMillis() {
+        return cosmeticUpdateIntervalMillis;
+    }
+
+    /**
+     * Starts measuring lag of given event loop if it is not measured already.
+     *
+     * @param   eventLoop
+     *          Event loop to watch
+     */
+    public static void watch(@NonNull EventLoop eventLoop) {
+        if (!enabled || probes.containsKey(eventLoop)) return;
+        LagProbe probe = new LagProbe(eventLoop);
+        if (probes.putIfAbsent(eventLoop, probe) == null) probe.schedule();
+    }
+
+    /**
+     * Returns {@code true} if the proxy is currently overloaded and cosmetic updates
+     * should be shed, {@code false} if not.
+     *
+     * @return  {@code true} if overloaded, {@code false} if not
+     */
+    public static boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * Records a packet that was delayed because of overload.
+     */
+    public static void recordDelayed() {
+        delayedPackets.increment();
+    }
+
+    /**
+     * Records a packet that was dropped because a newer packet replaced it.
+     */
+    public static void recordCoalesced() {
+        coalescedPackets.increment();
+    }
+
+    /**
+     * Enters or leaves the overloaded state based on lag of all event loops. Probes of all event loops
+     * call this concurrently, so state transitions are synchronized to be counted exactly once.
+     */
+    private static synchronized void update() {
+        long maxLag = 0;
+        for (LagProbe probe : probes.values()) {
+            maxLag = Math.max(maxLag, probe.smoothedLag);
+        }
+        long threshold = lagThresholdNanos;
+        if (!overloaded && maxLag > threshold) {
+            overloadStart = System.nanoTime();
+            overloadCount++;
+            overloaded = true;
+        } else if (overloaded && maxLag < threshold / 2) {
+            // Leave at half of the threshold to avoid flapping
+            overloaded = false;
+            overloadNanos += System.nanoTime() - overloadStart;
+        }
+    }
+
+    /**
+     * Returns shedding statistics.
+     *
+     * @return  Shedding statistics
+     */
+    @NotNull
+    public static Map<String, Object> getStatistics() {
+        long maxLag = 0;
+        for (LagProbe probe : probes.values()) {
+            maxLag = Math.max(maxLag, probe.smoothedLag);
+        }
+        boolean overloaded;
+        long count;
+        long totalNanos;
+        synchronized (OverloadController.class) {
+            overloaded = OverloadController.overloaded;
+            count = overloadCount;
+            totalNanos = overloadNanos;
+            if (overloaded) totalNanos += System.nanoTime() - overloadStart;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("Enabled", enabled);
+        map.put("Overloaded", overloaded);
+        map.put("Event loop lag (ms)", TimeUnit.NANOSECONDS.toMillis(maxLag));
+        map.put("Overload periods", count);
+        map.put("Time overloaded (ms)", TimeUnit.NANOSECONDS.toMillis(totalNanos));
+        map.put("Delayed packets", delayedPackets.sum());
+        map.put("Coalesced packets", coalescedPackets.sum());
+        return map;
+    }
+
+    /**
+     * Task measuring how late it runs on an event loop.
+     */
+    private static class LagProbe implements Runnable {
+
+        /** Event loop this probe runs on */
+        private final EventLoop eventLoop;
+
+        /** Time when this task is expected to run */
+        private long expectedRun;
+
+        /** Exponentially smoothed lag of the event loop */
+        private volatile long smoothedLag;
+
+        private LagProbe(@NonNull EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        private void schedule() {
+            expectedRun = System.nanoTime() + PROBE_INTERVAL_NANOS;
+            eventLoop.schedule(this, PROBE_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void run() {
+            long lag = Math.max(0, System.nanoTime() - expectedRun);
+            smoothedLag = (smoothedLag * 3 + lag) / 4;
+            update();
+            if (eventLoop.isShuttingDown()) {
+                probes.remove(eventLoop);
+            } else {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.scoreboard.ViewerRenderer;
+import io.netty.channel.EventLoop;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel rendering of personalized content. Viewers are partitioned by their event loop and each
+ * partition is computed on the common work-stealing pool, split into chunks which idle workers can
+ * steal. Once a partition is computed, all its states are applied in a single task on the event loop,
+ * so packets of all viewers of the partition are queued together and flushed once per viewer.
+ */
+public class ParallelRenderer {
+
+    /** Maximum amount of viewers computed by a single task without splitting */
+    private static final int CHUNK_SIZE = 8;
+
+    /**
+     * Renders content for given viewers in parallel.
+     *
+     * @param   manager
+     *          Manager to get scoreboards of viewers from
+     * @param   viewers
+     *          Viewers to render content for
+     * @param   renderer
+     *          Renderer computing and applying the content
+     * @param   <T>
+     *          Type of rendered state
+     * @return  Future completed once states of all viewers are applied
+     */
+    @NotNull
+    public static <T> CompletableFuture<Void> render(@NonNull VelocityScoreboardManager manager,
+                                                     @NonNull Collection<? extends Player> viewers,
+                                                     @NonNull ViewerRenderer<T> renderer) {
+        Map<EventLoop, List<VelocityScoreboard>> partitions = new HashMap<>();
+        for (Player viewer : viewers) {
+            if (!viewer.isActive()) continue;
+            VelocityScoreboard scoreboard = manager.getProxyScoreboard(viewer);
+            partitions.computeIfAbsent(scoreboard.getViewer().getConnection().eventLoop(), l -> new ArrayList<>()).add(scoreboard);
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture[partitions.size()];
+        int i = 0;
+        for (Map.Entry<EventLoop, List<VelocityScoreboard>> entry : partitions.entrySet()) {
+            Partition<T> partition = new Partition<>(entry.getValue(), renderer);
+            futures[i++] = CompletableFuture
+                    .runAsync(new ComputeTask<>(partition, 0, partition.scoreboards.size())::invoke, ForkJoinPool.commonPool())
+                    .thenRunAsync(partition::apply, entry.getKey());
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Viewers of a single event loop with their computed states.
+     *
+     * @param   <T>
+     *          Type of rendered state
+     */
+    private static class Partition<T> {
+
+        /** Scoreboards of viewers in this partition */
+        @NotNull
+        private final List<VelocityScoreboard> scoreboards;
+
+        /** Renderer computing and applying the content */
+        @NotNull
+        private final ViewerRenderer<T> renderer;
+
+        /** Computed states, indexed the same way as scoreboards */
+        @NotNull
+        private final Object[] states;
+
+        /** Failures of computing states, indexed the same way as scoreboards */
+        @NotNull
+        private final Throwable[] failures;
+
+        private Partition(@NotNull List<VelocityScoreboard> scoreboards, @NotNull ViewerRenderer<T> renderer) {
+            this.scoreboards = scoreboards;
+            this.renderer = renderer;
+            states = new Object[scoreboards.size()];
+            failures = new Throwable[scoreboards.size()];
+        }
+
+        /**
+         * Computes state of viewer at given index. Called from the pool.
+         *
+         * @param   index
+         *          Index of the viewer
+         */
+        private void compute(int index) {
+            try {
+                states[index] = renderer.render(scoreboards.get(index).getViewer());
+            } catch (Throwable t) {
+                failures[index] = t;
+            }
+        }
+
+        /**
+         * Applies computed states of all viewers whose state was computed successfully. Called from the event loop.
+         * Throws the first failure after applying everything else.
+         */
+        @SuppressWarnings("unchecked")
+        private void apply() {
+            Throwable failure = null;
+            for (int i = 0; i < states.length; i++) {
+                Throwable t = failures[i];
+                if (t == null) {
+                    VelocityScoreboard scoreboard = scoreboards.get(i);
+                    if (!scoreboard.getViewer().isActive()) continue;
+                    try {
+                        renderer.apply(scoreboard, (T) states[i]);
+                    } catch (Throwable applyFailure) {
+                        t = applyFailure;
+                    }
+                }
+                failure = addFailure(failure, t);
+            }
+            if (failure != null) throw new CompletionException(failure);
+        }
+
+        @Nullable
+        private static Throwable addFailure(@Nullable Throwable failure, @Nullable Throwable t) {
+            if (t == null) return failure;
+            if (failure == null) return t;
+            failure.addSuppressed(t);
+            return failure;
+        }
+    }
+
+    /**
+     * Task computing states of a range of viewers of a partition, split in halves until
+     * it is small enough, so that idle workers can steal parts of large partitions.
+     *
+     * @param   <T>
+     *          Type of rendered state
+     */
+    private static class ComputeTask<T> extends RecursiveAction {
+
+        /** Partition to compute states of */
+        @NotNull
+        private final Partition<T> partition;
+
+        /** First index to compute, inclusive */
+        private final int from;
+
+        /** Last index to compute, exclusive */
+        private final int to;
+
+        private ComputeTask(@NotNull Partition<T> partition, int from, int to) {
+            this.partition = partition;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    partition.compute(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ComputeTask<>(partition, from, middle), new ComputeTask<>(partition, middle, to));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.proxy.data.TextHolderImpl;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of placeholders and parser of templates. Parsed templates are cached by their text,
+ * so templates used by many viewers are only parsed once.
+ */
+public class PlaceholderEngine {
+
+    /** Pattern of placeholder identifiers */
+    private static final Pattern PLACEHOLDER = Pattern.compile("%[^%\\s]+%");
+
+    /** Maximum amount of cached parsed templates, after which the cache is cleared */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+
+    /** Registered placeholders by identifier */
+    private final Map<String, VelocityPlaceholder> placeholders = new ConcurrentHashMap<>();
+
+    /** Parsed templates by text */
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Registers placeholder.
+     *
+     * @param   placeholder
+     *          Placeholder to register
+     * @return  Registered placeholder
+     * @throws  IllegalArgumentException
+     *          If a placeholder with the same identifier already exists or the identifier is invalid
+     */
+    @NotNull
+    public VelocityPlaceholder register(@NonNull VelocityPlaceholder placeholder) {
+        if (!PLACEHOLDER.matcher(placeholder.getIdentifier()).matches()) {
+            throw new IllegalArgumentException("Invalid placeholder identifier " + placeholder.getIdentifier() + ", expected %name%");
+        }
+        if (placeholders.putIfAbsent(placeholder.getIdentifier(), placeholder) != null) {
+            throw new IllegalArgumentException("Placeholder " + placeholder.getIdentifier() + " already exists");
+        }
+        templates.clear(); // Templates parsed before may contain it as plain text
+        return placeholder;
+    }
+
+    /**
+     * Unregisters placeholder with given identifier. If no such placeholder exists, nothing happens.
+     *
+     * @param   identifier
+     *          Identifier of placeholder to unregister
+     */
+    public void unregister(@NonNull String identifier) {
+        if (placeholders.remove(identifier) != null) templates.clear();
+    }
+
+    /**
+     * Forgets cached values and bindings of given player, who left.
+     *
+     * @param   player
+     *          Player who left
+     */
+    public void removePlayer(@NonNull Player player) {
+        for (VelocityPlaceholder placeholder : placeholders.values()) {
+            placeholder.removePlayer(player);
+        }
+    }
+
+    /**
+     * Returns parsed template of given text.
+     *
+     * @param   text
+     *          Text of the template
+     * @return  Parsed template
+     */
+    @NotNull
+    public Template parse(@NonNull String text) {
+        Template template = templates.get(text);
+        if (template == null) {
+            if (templates.size() >= MAX_CACHED_TEMPLATES) templates.clear();
+            template = templates.computeIfAbsent(text, this::parse0);
+        }
+        return template;
+    }
+
+    @NotNull
+    private Template parse0(@NotNull String text) {
+        List<Object> segments = new ArrayList<>();
+        Set<VelocityPlaceholder> dependencies = new HashSet<>();
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        int literalStart = 0;
+        while (matcher.find()) {
+            VelocityPlaceholder placeholder = placeholders.get(matcher.group());
+            if (placeholder == null) continue;
+            if (matcher.start() > literalStart) segments.add(text.substring(literalStart, matcher.start()));
+            segments.add(placeholder);
+            dependencies.add(placeholder);
+            literalStart = matcher.end();
+        }
+        if (literalStart < text.length()) segments.add(text.substring(literalStart));
+        return new Template(segments.toArray(), Collections.unmodifiableSet(dependencies));
+    }
+
+    /**
+     * Parsed template, consisting of literal text and placeholders.
+     */
+    public static class Template {
+
+        /** Literal strings and placeholders in order */
+        @NotNull
+        private final Object[] segments;
+
+        /** Placeholders this template contains */
+        @NotNull
+        @Getter
+        private final Set<VelocityPlaceholder> dependencies;
+
+        /** Whether all placeholders of this template are shared, making the result the same for all viewers */
+        private final boolean shared;
+
+        /** Last text rendered for all viewers if this template is shared */
+        @Nullable
+        private volatile TextHolderImpl lastShared;
+
+        private Template(@NotNull Object[] segments, @NotNull Set<VelocityPlaceholder> dependencies) {
+            this.segments = segments;
+            this.dependencies = dependencies;
+            shared = dependencies.stream().allMatch(VelocityPlaceholder::isShared);
+        }
+
+        /**
+         * Renders this template for given viewer using cached placeholder values.
+         *
+         * @param   viewer
+         *          Viewer to render the template for
+         * @return  Rendered text
+         */
+        @NotNull
+        public String render(@NonNull Player viewer) {
+            if (segments.length == 1 && segments[0] instanceof String literal) return literal;
+            StringBuilder builder = new StringBuilder();
+            for (Object segment : segments) {
+                if (segment instanceof VelocityPlaceholder placeholder) {
+                    builder.append(placeholder.getValue(viewer));
+                } else {
+                    builder.append((String) segment);
+                }
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Returns text holder of rendered text. If this template is shared, the same prepared instance
+         * is returned to all viewers until the text changes, so it is only serialized once per protocol version.
+         *
+         * @param   rendered
+         *          Text rendered by this template
+         * @return  Text holder of rendered text
+         */
+        @NotNull
+        public TextHolder toText(@NonNull String rendered) {
+            if (!shared) return TextHolder.of(rendered);
+            TextHolderImpl last = lastShared;
+            if (last == null || !last.getLegacyText().equals(rendered)) {
+                last = ((TextHolderImpl) TextHolder.of(rendered)).prepare();
+                lastShared = last;
+            }
+            return last;
+        }
+    }
+}
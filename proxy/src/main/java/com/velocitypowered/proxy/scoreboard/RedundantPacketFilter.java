@@ -0,0 +1,332 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.scoreboard.CollisionRule;
+import com.velocitypowered.api.scoreboard.HealthDisplay;
+import com.velocitypowered.api.scoreboard.NameVisibility;
+import com.velocitypowered.api.scoreboard.NumberFormat;
+import com.velocitypowered.api.scoreboard.TeamColor;
+import com.velocitypowered.proxy.data.TextHolderImpl;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
+import lombok.NonNull;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filter dropping scoreboard packets which would not change anything on the client, such as
+ * team updates with the same properties or score updates with the same value. Both proxy and
+ * backend packets pass through this filter right before being written, so it knows
+ * the last state sent to the client for every team, objective and score.
+ * <p>
+ * State is compared field by field without encoding the packet. Texts are compared by their
+ * serialized form for the viewer's version, which is kept by component holders and written
+ * anyway, so backend text does not need to be deserialized. State objects are reused
+ * for every update of the same team, objective or score.
+ * This class is only accessed from the viewer's event loop.
+ */
+public class RedundantPacketFilter {
+
+    /** Whether redundant packets should be dropped */
+    @Setter
+    private static boolean enabled = false;
+
+    /** Amount of dropped team packets */
+    private static final LongAdder droppedTeamPackets = new LongAdder();
+
+    /** Amount of dropped objective packets */
+    private static final LongAdder droppedObjectivePackets = new LongAdder();
+
+    /** Amount of dropped score packets */
+    private static final LongAdder droppedScorePackets = new LongAdder();
+
+    /** Protocol version of the viewer */
+    @NotNull
+    private final ProtocolVersion version;
+
+    /** Properties of teams on the client */
+    private final Map<String, TeamState> teams = new HashMap<>();
+
+    /** Last update of objectives on the client */
+    private final Map<String, ObjectiveState> objectives = new HashMap<>();
+
+    /** Scores on the client, mapped by objective name and holder */
+    private final Map<String, Map<String, ScoreState>> scores = new HashMap<>();
+
+    /**
+     * Constructs new instance for given protocol version.
+     *
+     * @param   version
+     *          Protocol version of the viewer
+     */
+    public RedundantPacketFilter(@NonNull ProtocolVersion version) {
+        this.version = version;
+    }
+
+    /**
+     * Returns {@code true} if the packet would not change anything on the client and should be
+     * dropped, {@code false} if it should be sent. If the packet should be sent, it is expected
+     * to actually be sent, as it is recorded as the current client state.
+     *
+     * @param   packet
+     *          Packet about to be sent
+     * @return  {@code true} if packet is redundant, {@code false} if not
+     */
+    public boolean isRedundant(@NonNull MinecraftPacket packet) {
+        if (!enabled) return false;
+        if (packet instanceof TeamPacket team) return isRedundant(team);
+        if (packet instanceof ObjectivePacket objective) return isRedundant(objective);
+        if (packet instanceof ScorePacket score) {
+            if (score.getAction() == ScorePacket.ScoreAction.SET) {
+                return isRedundantScore(score.getObjectiveName(), score.getScoreHolder(), score.getValue(), null, null);
+            }
+            resetScore(score.getObjectiveName(), score.getScoreHolder());
+        } else if (packet instanceof ScoreSetPacket score) {
+            return isRedundantScore(score.getObjectiveName(), score.getScoreHolder(), score.getValue(),
+                    score.getDisplayName(), score.getNumberFormat());
+        } else if (packet instanceof ScoreResetPacket score) {
+            resetScore(score.getObjectiveName(), score.getScoreHolder());
+        }
+        return false;
+    }
+
+    private boolean isRedundant(@NotNull TeamPacket packet) {
+        switch (packet.getAction()) {
+            case REGISTER -> teams.computeIfAbsent(packet.getName(), k -> new TeamState()).set(packet.getProperties());
+            case UNREGISTER -> teams.remove(packet.getName());
+            case UPDATE -> {
+                TeamState state = teams.get(packet.getName());
+                if (state == null) {
+                    teams.put(packet.getName(), new TeamState().set(packet.getProperties()));
+                } else if (state.matches(packet.getProperties())) {
+                    droppedTeamPackets.increment();
+                    return true;
+                } else {
+                    state.set(packet.getProperties());
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isRedundant(@NotNull ObjectivePacket packet) {
+        switch (packet.getAction()) {
+            case REGISTER -> objectives.remove(packet.getObjectiveName());
+            case UNREGISTER -> {
+                objectives.remove(packet.getObjectiveName());
+                scores.remove(packet.getObjectiveName());
+            }
+            case UPDATE -> {
+                ObjectiveState state = objectives.get(packet.getObjectiveName());
+                if (state == null) {
+                    objectives.put(packet.getObjectiveName(), new ObjectiveState().set(packet));
+                } else if (state.matches(packet)) {
+                    droppedObjectivePackets.increment();
+                    return true;
+                } else {
+                    state.set(packet);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isRedundantScore(@NotNull String objectiveName, @NotNull String holder, int value,
+                                     @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+        Map<String, ScoreState> objectiveScores = scores.get(objectiveName);
+        if (objectiveScores == null) {
+            objectiveScores = new HashMap<>();
+            scores.put(objectiveName, objectiveScores);
+        }
+        ScoreState state = objectiveScores.get(holder);
+        if (state == null) {
+            state = new ScoreState();
+            objectiveScores.put(holder, state);
+        } else if (state.present && state.value == value && sameComponent(state.displayName, displayName)
+                && Objects.equals(state.numberFormat, numberFormat)) {
+            droppedScorePackets.increment();
+            return true;
+        }
+        state.present = true;
+        state.value = value;
+        state.displayName = displayName;
+        state.numberFormat = numberFormat;
+        return false;
+    }
+
+    private void resetScore(@Nullable String objectiveName, @NotNull String holder) {
+        if (objectiveName == null || objectiveName.isEmpty()) {
+            // Removes score from all objectives
+            for (Map<String, ScoreState> objectiveScores : scores.values()) {
+                ScoreState state = objectiveScores.get(holder);
+                if (state != null) state.reset();
+            }
+        } else {
+            Map<String, ScoreState> objectiveScores = scores.get(objectiveName);
+            if (objectiveScores == null) return;
+            ScoreState state = objectiveScores.get(holder);
+            if (state != null) state.reset();
+        }
+    }
+
+    /**
+     * Returns text in the form it is written to the viewer, which is legacy text for 1.12-
+     * and component holder for 1.13+.
+     *
+     * @param   text
+     *          Text to convert
+     * @return  Text in the form it is written
+     */
+    @Nullable
+    private Object written(@Nullable TextHolder text) {
+        if (text == null) return null;
+        if (version.lessThan(ProtocolVersion.MINECRAFT_1_13)) return ((TextHolderImpl) text).getLegacyText();
+        return ((TextHolderImpl) text).getHolder(version);
+    }
+
+    private boolean sameText(@Nullable Object previous, @Nullable Object current) {
+        if (previous instanceof ComponentHolder holder) return current instanceof ComponentHolder && sameComponent(holder, (ComponentHolder) current);
+        return Objects.equals(previous, current);
+    }
+
+    private boolean sameComponent(@Nullable ComponentHolder previous, @Nullable ComponentHolder current) {
+        if (previous == current) return true;
+        if (previous == null || current == null) return false;
+        if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) return previous.getBinaryTag().equals(current.getBinaryTag());
+        return previous.getJson().equals(current.getJson());
+    }
+
+    /**
+     * Properties of a team last sent to the client.
+     */
+    private class TeamState {
+
+        @Nullable private Object displayName;
+        @Nullable private Object prefix;
+        @Nullable private Object suffix;
+        @Nullable private NameVisibility nameVisibility;
+        @Nullable private CollisionRule collisionRule;
+        @Nullable private TeamColor color;
+        private boolean allowFriendlyFire;
+        private boolean canSeeFriendlyInvisibles;
+
+        @NotNull
+        private TeamState set(@NotNull TeamProperties properties) {
+            displayName = written(properties.getDisplayName());
+            prefix = written(properties.getPrefix());
+            suffix = written(properties.getSuffix());
+            nameVisibility = properties.getNameVisibility();
+            collisionRule = properties.getCollisionRule();
+            color = properties.getColor();
+            allowFriendlyFire = properties.isAllowFriendlyFire();
+            canSeeFriendlyInvisibles = properties.isCanSeeFriendlyInvisibles();
+            return this;
+        }
+
+        private boolean matches(@NotNull TeamProperties properties) {
+            return nameVisibility == properties.getNameVisibility()
+                    && collisionRule == properties.getCollisionRule()
+                    && color == properties.getColor()
+                    && allowFriendlyFire == properties.isAllowFriendlyFire()
+                    && canSeeFriendlyInvisibles == properties.isCanSeeFriendlyInvisibles()
+                    && sameText(displayName, written(properties.getDisplayName()))
+                    && sameText(prefix, written(properties.getPrefix()))
+                    && sameText(suffix, written(properties.getSuffix()));
+        }
+    }
+
+    /**
+     * Last update of an objective sent to the client.
+     */
+    private class ObjectiveState {
+
+        @Nullable private Object title;
+        @Nullable private HealthDisplay healthDisplay;
+        @Nullable private NumberFormat numberFormat;
+
+        @NotNull
+        private ObjectiveState set(@NotNull ObjectivePacket packet) {
+            title = written(packet.getTitle());
+            healthDisplay = packet.getHealthDisplay();
+            numberFormat = packet.getNumberFormat();
+            return this;
+        }
+
+        private boolean matches(@NotNull ObjectivePacket packet) {
+            return healthDisplay == packet.getHealthDisplay()
+                    && Objects.equals(numberFormat, packet.getNumberFormat())
+                    && sameText(title, written(packet.getTitle()));
+        }
+    }
+
+    /**
+     * Score last sent to the client. Reset scores keep their state object,
+     * so holders moving in and out of a sidebar do not allocate.
+     */
+    private static class ScoreState {
+
+        private boolean present;
+        private int value;
+        @Nullable private ComponentHolder displayName;
+        @Nullable private NumberFormat numberFormat;
+
+        private void reset() {
+            present = false;
+            displayName = null;
+            numberFormat = null;
+        }
+    }
+
+    /**
+     * Forgets everything, used when the client's scoreboard is reset.
+     */
+    public void clear() {
+        teams.clear();
+        objectives.clear();
+        scores.clear();
+    }
+
+    /**
+     * Returns statistics of dropped packets for display.
+     *
+     * @return  Map of statistic names and their values
+     */
+    @NotNull
+    public static Map<String, Object> getStatistics() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("Enabled", enabled);
+        map.put("Dropped team packets", droppedTeamPackets.sum());
+        map.put("Dropped objective packets", droppedObjectivePackets.sum());
+        map.put("Dropped score packets", droppedScorePackets.sum());
+        return map;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.scoreboard.ProxyScore;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Scores of an objective ordered the same way as in the sidebar (score descending, then holder
+ * ascending), stored in an indexable skip list. Every link stores how many scores it skips,
+ * which allows finding rank of a score and score at a rank in logarithmic time.
+ * Updating a score relinks its existing node, so changing score values does not allocate.
+ * <p>
+ * Scores are updated from any thread calling the API, access is synchronized.
+ */
+class ScoreRanking {
+
+    /** Maximum level of a node, enough for 4^32 scores */
+    private static final int MAX_LEVEL = 32;
+
+    /** Probability of a node having a higher level is 1 / LEVEL_RATIO */
+    private static final int LEVEL_RATIO = 4;
+
+    /** Head node, which does not hold any score */
+    private final Node head = new Node(null, "", MAX_LEVEL);
+
+    /** Nodes of all scores by holder */
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    /** Reusable array of last nodes before the updated node on each level */
+    private final Node[] update = new Node[MAX_LEVEL];
+
+    /** Reusable array of ranks of nodes in {@link #update} */
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /** Current highest level of any node */
+    private int level = 1;
+
+    /** Amount of scores */
+    private int size;
+
+    /**
+     * Inserts score or moves it to a new position if its value changed.
+     *
+     * @param   score
+     *          Score to update
+     */
+    public synchronized void update(@NonNull VelocityScore score) {
+        Node node = nodes.get(score.getHolder());
+        if (node == null) {
+            node = new Node(score, score.getHolder(), randomLevel());
+            node.value = score.getScore();
+            nodes.put(score.getHolder(), node);
+            insert(node);
+        } else {
+            node.score = score;
+            if (node.value == score.getScore()) return;
+            delete(node);
+            node.value = score.getScore();
+            insert(node);
+        }
+    }
+
+    /**
+     * Removes score of given holder.
+     *
+     * @param   holder
+     *          Holder to remove
+     */
+    public synchronized void remove(@NonNull String holder) {
+        Node node = nodes.remove(holder);
+        if (node != null) delete(node);
+    }
+
+    /**
+     * Returns rank of given holder, starting from {@code 1}.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  Rank of the holder, {@code -1} if holder has no score
+     */
+    public synchronized int getRank(@NonNull String holder) {
+        Node node = nodes.get(holder);
+        if (node == null) return -1;
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node) <= 0) {
+                traversed += x.width[i];
+                x = x.next[i];
+            }
+            if (x == node) return traversed;
+        }
+        return -1; // Not reachable
+    }
+
+    /**
+     * Returns scores with rank in given range, both inclusive.
+     *
+     * @param   fromRank
+     *          First rank, starting from {@code 1}
+     * @param   toRank
+     *          Last rank
+     * @return  Scores in given rank range
+     */
+    @NotNull
+    public synchronized List<ProxyScore> getRange(int fromRank, int toRank) {
+        fromRank = Math.max(fromRank, 1);
+        toRank = Math.min(toRank, size);
+        if (fromRank > toRank) return Collections.emptyList();
+        List<ProxyScore> scores = new ArrayList<>(toRank - fromRank + 1);
+        Node x = getByRank(fromRank);
+        for (int i = fromRank; i <= toRank && x != null; i++) {
+            scores.add(x.score);
+            x = x.next[0];
+        }
+        return scores;
+    }
+
+    @Nullable
+    private Node getByRank(int targetRank) {
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.width[i] <= targetRank) {
+                traversed += x.width[i];
+                x = x.next[i];
+            }
+            if (traversed == targetRank) return x;
+        }
+        return null;
+    }
+
+    private void insert(@NotNull Node node) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], node) < 0) {
+                rank[i] += x.width[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        int nodeLevel = node.next.length;
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.width[i] = size;
+            }
+            level = nodeLevel;
+        }
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.width[i] = update[i].width[i] - (rank[0] - rank[i]);
+            update[i].width[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].width[i]++;
+        }
+        size++;
+    }
+
+    private void delete(@NotNull Node node) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].width[i] += node.width[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].width[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        Arrays.fill(update, null); // Do not keep references to removed scores
+    }
+
+    private static int compare(@NotNull Node a, @NotNull Node b) {
+        if (a.value != b.value) return a.value > b.value ? -1 : 1;
+        return compareHolders(a.holder, b.holder);
+    }
+
+    /**
+     * Compares holders of scores with the same value the way the client does, ignoring case first.
+     * Holders only differing in case are then compared exactly, so that no two holders are equal.
+     *
+     * @param   a
+     *          First holder
+     * @param   b
+     *          Second holder
+     * @return  Negative number if first holder is displayed first, positive if second, {@code 0} if they are equal
+     */
+    static int compareHolders(@NotNull String a, @NotNull String b) {
+        int result = String.CASE_INSENSITIVE_ORDER.compare(a, b);
+        return result != 0 ? result : a.compareTo(b);
+    }
+
+    private static int randomLevel() {
+        int level = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (level < MAX_LEVEL && random.nextInt(LEVEL_RATIO) == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Node of the skip list.
+     */
+    private static class Node {
+
+        /** Score in this node */
+        private VelocityScore score;
+
+        /** Score holder */
+        @NotNull
+        private final String holder;
+
+        /** Score value this node is positioned by */
+        private int value;
+
+        /** Next node on each level */
+        private final Node[] next;
+
+        /** Amount of scores skipped by each link, including the next node */
+        private final int[] width;
+
+        private Node(@Nullable VelocityScore score, @NotNull String holder, int level) {
+            this.score = score;
+            this.holder = holder;
+            next = new Node[level];
+            width = new int[level];
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Ordered view of scores of an objective displayed in a sidebar. The client only shows
+ * the first {@link #SIZE} scores, so only those are kept on the client. Changes of scores
+ * below the cutoff do not produce any packets, while scores entering or leaving the visible
+ * window are sent or removed.
+ * <p>
+ * Scores are ordered the same way the client orders them (score descending, then holder ascending).
+ * This class is only accessed from the viewer's event loop.
+ */
+class SidebarWindow {
+
+    /** Maximum amount of scores displayed in a sidebar */
+    static final int SIZE = 15;
+
+    /** Order of scores in a sidebar, the same as of {@link ScoreRanking}, with no two different holders being equal */
+    private static final Comparator<RankKey> ORDER = Comparator.comparingInt(RankKey::score).reversed()
+            .thenComparing(RankKey::holder, ScoreRanking::compareHolders);
+
+    /** All scores of the objective in sidebar order */
+    private final TreeMap<RankKey, VelocityScore> ranking = new TreeMap<>(ORDER);
+
+    /** Current position of each score in the ranking */
+    private final Map<VelocityScore, RankKey> keys = new HashMap<>();
+
+    /**
+     * Returns {@code true} if given slot is a sidebar, {@code false} if not.
+     *
+     * @param   slot
+     *          Slot to check
+     * @return  {@code true} if given slot is a sidebar, {@code false} if not
+     */
+    static boolean isSidebar(@NonNull DisplaySlot slot) {
+        return slot == DisplaySlot.SIDEBAR || slot.ordinal() >= DisplaySlot.TEAM_BLACK.ordinal();
+    }
+
+    /**
+     * Builds the ranking from all scores, sending scores in the window and removing
+     * all others from the client.
+     *
+     * @param   scores
+     *          All scores of the objective
+     */
+    void build(@NonNull Collection<VelocityScore> scores) {
+        for (VelocityScore score : scores) {
+            if (!score.isRegistered()) continue;
+            RankKey key = new RankKey(score.getScore(), score.getHolder());
+            keys.put(score, key);
+            ranking.put(key, score);
+        }
+        int rank = 0;
+        for (VelocityScore score : ranking.values()) {
+            if (rank++ < SIZE) {
+                if (score.needsSend()) score.send();
+            } else {
+                score.hide();
+            }
+        }
+    }
+
+    /**
+     * Moves score to its new position and sends packets for scores entering or leaving the window.
+     *
+     * @param   score
+     *          Score which changed
+     */
+    void update(@NonNull VelocityScore score) {
+        RankKey previous = keys.get(score);
+        RankKey key = new RankKey(score.getScore(), score.getHolder());
+        if (!key.equals(previous)) {
+            if (previous != null) ranking.remove(previous);
+            keys.put(score, key);
+            ranking.put(key, score);
+        }
+        boolean visible = false;
+        int rank = 0;
+        for (VelocityScore ranked : ranking.values()) {
+            if (rank++ == SIZE) {
+                // Pushed out of the window by the change
+                if (ranked != score && ranked.isOnClient()) ranked.hide();
+                break;
+            }
+            if (ranked == score) {
+                visible = true;
+                score.send();
+            } else if (ranked.needsSend()) {
+                // Entered the window by the change
+                ranked.send();
+            }
+        }
+        if (!visible) score.hide();
+    }
+
+    /**
+     * Removes score from the ranking and sends the score which entered the window in its place.
+     *
+     * @param   score
+     *          Removed score
+     */
+    void remove(@NonNull VelocityScore score) {
+        RankKey key = keys.remove(score);
+        if (key == null) return;
+        ranking.remove(key);
+        int rank = 0;
+        for (VelocityScore ranked : ranking.values()) {
+            if (rank++ == SIZE) break;
+            if (ranked.needsSend()) ranked.send();
+        }
+    }
+
+    /**
+     * Position of a score in the ranking.
+     *
+     * @param   score
+     *          Score value
+     * @param   holder
+     *          Score holder
+     */
+    private record RankKey(int score, @NotNull String holder) {}
+}
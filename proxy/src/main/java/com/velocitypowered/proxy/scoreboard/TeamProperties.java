@@ -25,6 +25,7 @@ import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.scoreboard.CollisionRule;
 import com.velocitypowered.api.scoreboard.NameVisibility;
 import com.velocitypowered.api.scoreboard.TeamColor;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.protocol.ProtocolUtils;
 import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
@@ -139,50 +140,7 @@ public class TeamProperties {
      *          Protocol version used to encode data
      */
     public void encode(@NonNull ByteBuf buf, @NonNull ProtocolVersion protocolVersion) {
-        byte flags = 0;
-        if (allowFriendlyFire) flags += 0x01;
-        if (canSeeFriendlyInvisibles) flags += 0x02;
-
-        if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_26_2)) {
-            ((TextHolderImpl)displayName).getHolder(protocolVersion).write(buf);
-            ((TextHolderImpl)prefix).getHolder(protocolVersion).write(buf);
-            ((TextHolderImpl)suffix).getHolder(protocolVersion).write(buf);
-            ProtocolUtils.writeVarInt(buf, nameVisibility.ordinal());
-            ProtocolUtils.writeVarInt(buf, collisionRule.ordinal());
-            buf.writeBoolean(color != TeamColor.RESET); // Since field is NotNull, let's make RESET act as null here
-            if (color != TeamColor.RESET) {
-                ProtocolUtils.writeVarInt(buf, Math.min(15, color.ordinal()));
-            }
-            buf.writeByte(flags);
-            return;
-        }
-        if (protocolVersion.lessThan(ProtocolVersion.MINECRAFT_1_13)) {
-            ProtocolUtils.writeString(buf, displayName.getLegacyText(16));
-            ProtocolUtils.writeString(buf, prefix.getLegacyText(16));
-            ProtocolUtils.writeString(buf, suffix.getLegacyText(16));
-        } else {
-            ((TextHolderImpl)displayName).getHolder(protocolVersion).write(buf);
-        }
-        buf.writeByte(flags);
-        if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_21_5)) {
-            ProtocolUtils.writeVarInt(buf, nameVisibility.ordinal());
-            ProtocolUtils.writeVarInt(buf, collisionRule.ordinal());
-        } else {
-            if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_8)) {
-                ProtocolUtils.writeString(buf, nameVisibility.toString());
-            }
-            if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_9)) {
-                ProtocolUtils.writeString(buf, collisionRule.toString());
-            }
-        }
-        if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_13)) {
-            ProtocolUtils.writeVarInt(buf, color.ordinal());
-            ((TextHolderImpl)prefix).getHolder(protocolVersion).write(buf);
-            ((TextHolderImpl)suffix).getHolder(protocolVersion).write(buf);
-        } else if (protocolVersion.noLessThan(ProtocolVersion.MINECRAFT_1_8)) {
-            buf.writeByte(0); // 1.8 - 1.12 does not actually use this field, non-zero values crash the client
-            // buf.writeByte(color.ordinal());
-        }
+        ScoreboardCodec.of(protocolVersion).writeTeamProperties(buf, this);
     }
 
     /**
@@ -288,4 +246,14 @@ public class TeamProperties {
         this.canSeeFriendlyInvisibles = canSeeFriendlyInvisibles;
         return true;
     }
+
+    /**
+     * Creates a copy of these properties, which is not affected by further modifications of this one.
+     *
+     * @return  Copy of these properties
+     */
+    @NotNull
+    public TeamProperties copy() {
+        return new TeamProperties(displayName, prefix, suffix, nameVisibility, collisionRule, color, allowFriendlyFire, canSeeFriendlyInvisibles);
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.scoreboard.Animation;
+import com.velocitypowered.api.scoreboard.ProxyObjective;
+import com.velocitypowered.api.scoreboard.ProxyTeam;
+import com.velocitypowered.api.scoreboard.Sidebar;
+import com.velocitypowered.proxy.data.TextHolderImpl;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of animation. Frames are prepared on creation, so each of them is serialized once
+ * for each protocol version. Frame changes are collected by {@link AnimationScheduler} and applied
+ * on the viewer's event loop, grouped with other animations due on the same tick.
+ */
+public class VelocityAnimation implements Animation {
+
+    /** Scheduler driving this animation */
+    @NotNull
+    private final AnimationScheduler scheduler;
+
+    /** Prepared frames of this animation */
+    @NotNull
+    @Getter
+    private final List<TextHolder> frames;
+
+    /** Interval between frames in milliseconds */
+    @Getter
+    private final int interval;
+
+    /** Interval between frames in scheduler ticks */
+    @Getter
+    private final int intervalTicks;
+
+    /** Places this animation is displayed in */
+    private final Set<VelocitySubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /** Index of currently displayed frame */
+    private volatile int frame;
+
+    /** Flag tracking whether this animation was stopped */
+    private volatile boolean stopped;
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   scheduler
+     *          Scheduler driving this animation
+     * @param   frames
+     *          Frames of this animation
+     * @param   interval
+     *          Interval between frames in milliseconds
+     */
+    public VelocityAnimation(@NonNull AnimationScheduler scheduler, @NonNull List<TextHolder> frames, int interval) {
+        if (frames.isEmpty()) throw new IllegalArgumentException("Animation must have at least one frame");
+        if (interval <= 0) throw new IllegalArgumentException("Interval must be positive, got " + interval);
+        this.scheduler = scheduler;
+        List<TextHolder> prepared = new ArrayList<>(frames.size());
+        for (TextHolder frame : frames) {
+            prepared.add(((TextHolderImpl) frame).prepare());
+        }
+        this.frames = List.copyOf(prepared);
+        intervalTicks = (interval + AnimationScheduler.TICK_MILLIS - 1) / AnimationScheduler.TICK_MILLIS;
+        this.interval = intervalTicks * AnimationScheduler.TICK_MILLIS;
+    }
+
+    @Override
+    @NotNull
+    public Subscription animateTitle(@NonNull ProxyObjective objective) {
+        VelocityObjective velocityObjective = (VelocityObjective) objective;
+        return subscribe(velocityObjective.getScoreboard(), velocityObjective::isRegistered, VelocityObjective::setAnimatedTitle, velocityObjective);
+    }
+
+    @Override
+    @NotNull
+    public Subscription animatePrefix(@NonNull ProxyTeam team) {
+        VelocityTeam velocityTeam = (VelocityTeam) team;
+        return subscribe(velocityTeam.getScoreboard(), velocityTeam::isRegistered, VelocityTeam::setAnimatedPrefix, velocityTeam);
+    }
+
+    @Override
+    @NotNull
+    public Subscription animateSuffix(@NonNull ProxyTeam team) {
+        VelocityTeam velocityTeam = (VelocityTeam) team;
+        return subscribe(velocityTeam.getScoreboard(), velocityTeam::isRegistered, VelocityTeam::setAnimatedSuffix, velocityTeam);
+    }
+
+    @Override
+    @NotNull
+    public Subscription animateSidebarTitle(@NonNull Sidebar sidebar) {
+        VelocitySidebar velocitySidebar = (VelocitySidebar) sidebar;
+        return subscribe(velocitySidebar.getScoreboard(), () -> true, VelocitySidebar::setAnimatedTitle, velocitySidebar);
+    }
+
+    @Override
+    @NotNull
+    public Subscription animateSidebarLine(@NonNull Sidebar sidebar, int index) {
+        if (index < 0 || index >= Sidebar.MAX_LINES) throw new IllegalArgumentException("Line index must be between 0 and " + (Sidebar.MAX_LINES - 1) + ", got " + index);
+        VelocitySidebar velocitySidebar = (VelocitySidebar) sidebar;
+        return subscribe(velocitySidebar.getScoreboard(), () -> true, (s, frame) -> s.setAnimatedLine(index, frame), velocitySidebar);
+    }
+
+    @NotNull
+    private <T> Subscription subscribe(@NotNull VelocityScoreboard scoreboard, @NotNull BooleanSupplier valid,
+                                       @NotNull BiConsumer<T, TextHolder> setter, @NotNull T target) {
+        if (stopped) throw new IllegalStateException("This animation was stopped");
+        VelocitySubscription subscription = new VelocitySubscription(scoreboard, valid, frame -> setter.accept(target, frame));
+        subscriptions.add(subscription);
+        TextHolder current = frames.get(frame);
+        scoreboard.getExecutor().execute(() -> subscription.apply(current));
+        return subscription;
+    }
+
+    /**
+     * Moves to the next frame and adds updates of all subscriptions to the map, grouped by scoreboard.
+     * Subscriptions which are no longer valid are removed. Called by the scheduler.
+     *
+     * @param   updates
+     *          Map to add updates to
+     */
+    void advance(@NonNull Map<VelocityScoreboard, List<Runnable>> updates) {
+        if (stopped) return;
+        int next = (frame + 1) % frames.size();
+        frame = next;
+        if (frames.size() == 1) return;
+        TextHolder current = frames.get(next);
+        for (VelocitySubscription subscription : subscriptions) {
+            if (!subscription.scoreboard.getViewer().isActive() || !subscription.valid.getAsBoolean()) {
+                subscriptions.remove(subscription);
+                continue;
+            }
+            updates.computeIfAbsent(subscription.scoreboard, s -> new ArrayList<>()).add(() -> subscription.apply(current));
+        }
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        subscriptions.clear();
+        scheduler.remove(this);
+    }
+
+    /**
+     * Display of this animation in a single place.
+     */
+    private class VelocitySubscription implements Subscription {
+
+        /** Scoreboard the animated text belongs to */
+        @NotNull
+        private final VelocityScoreboard scoreboard;
+
+        /** Check whether the animated text still exists */
+        @NotNull
+        private final BooleanSupplier valid;
+
+        /** Function setting the animated text to a frame */
+        @NotNull
+        private final Consumer<TextHolder> setter;
+
+        private VelocitySubscription(@NotNull VelocityScoreboard scoreboard, @NotNull BooleanSupplier valid,
+                                     @NotNull Consumer<TextHolder> setter) {
+            this.scoreboard = scoreboard;
+            this.valid = valid;
+            this.setter = setter;
+        }
+
+        /**
+         * Sets the animated text to given frame if this subscription is still active.
+         * Called from the viewer's event loop.
+         *
+         * @param   frame
+         *          Frame to display
+         */
+        private void apply(@NotNull TextHolder frame) {
+            if (subscriptions.contains(this)) setter.accept(frame);
+        }
+
+        @Override
+        public void cancel() {
+            subscriptions.remove(this);
+        }
+    }
+}
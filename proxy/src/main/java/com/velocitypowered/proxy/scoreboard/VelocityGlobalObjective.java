@@ -0,0 +1,167 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.api.scoreboard.GlobalObjective;
+import com.velocitypowered.api.scoreboard.HealthDisplay;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.OptionalInt;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Implementation of an objective shown to all players. Scores are stored once in arrays indexed by
+ * compact player ids instead of as score objects in every viewer's objective. Each change is sent
+ * to all viewers using a single packet per protocol version, which is encoded only once.
+ */
+@RequiredArgsConstructor
+public class VelocityGlobalObjective implements GlobalObjective {
+
+    /** Amount of protocol versions, for indexing packets by protocol version */
+    private static final int VERSIONS = ProtocolVersion.values().length;
+
+    /** Manager providing player ids and viewers */
+    @NotNull
+    private final VelocityScoreboardManager manager;
+
+    @NotNull
+    @Getter
+    private final String name;
+
+    @NotNull
+    @Getter
+    private final TextHolder title;
+
+    @NotNull
+    @Getter
+    private final HealthDisplay healthDisplay;
+
+    @NotNull
+    @Getter
+    private final DisplaySlot displaySlot;
+
+    /** Score values by player id */
+    private int[] values = new int[64];
+
+    /** Score holders by player id */
+    private String[] holders = new String[64];
+
+    /** Ids of players who have a score */
+    private final BitSet present = new BitSet();
+
+    @Override
+    public void setScore(@NonNull Player player, int score) {
+        int id = manager.getPlayerId(player);
+        if (id == -1) return;
+        synchronized (this) {
+            if (present.get(id) && values[id] == score) return;
+            if (id >= values.length) {
+                int length = Math.max(values.length * 2, id + 1);
+                values = Arrays.copyOf(values, length);
+                holders = Arrays.copyOf(holders, length);
+            }
+            values[id] = score;
+            holders[id] = player.getUsername();
+            present.set(id);
+            broadcast(player.getUsername(), score, true);
+        }
+    }
+
+    @Override
+    @NotNull
+    public OptionalInt getScore(@NonNull Player player) {
+        int id = manager.getPlayerId(player);
+        if (id == -1) return OptionalInt.empty();
+        synchronized (this) {
+            return present.get(id) ? OptionalInt.of(values[id]) : OptionalInt.empty();
+        }
+    }
+
+    @Override
+    public void removeScore(@NonNull Player player) {
+        int id = manager.getPlayerId(player);
+        if (id == -1) return;
+        removeScore(id);
+    }
+
+    /**
+     * Removes score of player with given id and sends the change to all viewers.
+     *
+     * @param   id
+     *          Id of player to remove score of
+     */
+    public synchronized void removeScore(int id) {
+        if (!present.get(id)) return;
+        String holder = holders[id];
+        present.clear(id);
+        holders[id] = null;
+        broadcast(holder, 0, false);
+    }
+
+    /**
+     * Performs given action for all scores in this objective.
+     *
+     * @param   action
+     *          Action to perform with score holder and value
+     */
+    public synchronized void forEachScore(@NotNull ObjIntConsumer<String> action) {
+        for (int id = present.nextSetBit(0); id >= 0; id = present.nextSetBit(id + 1)) {
+            action.accept(holders[id], values[id]);
+        }
+    }
+
+    /**
+     * Sends score change to all viewers. Packets are created lazily, once for each protocol
+     * version in use, and shared between all viewers on that version. Must be called while
+     * holding the lock of this objective, so viewers receive changes in the same order.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   value
+     *          New score value
+     * @param   set
+     *          {@code true} if score was set, {@code false} if it was removed
+     */
+    private void broadcast(@NotNull String holder, int value, boolean set) {
+        MinecraftPacket[] packets = new MinecraftPacket[VERSIONS];
+        for (VelocityScoreboard viewer : manager.getProxyScoreboards()) {
+            ScoreboardCodec codec = viewer.getCodec();
+            int index = codec.getVersion().ordinal();
+            MinecraftPacket packet = packets[index];
+            if (packet == null) {
+                packet = set ? codec.sharedScoreSet(holder, name, value) : codec.scoreReset(holder, name);
+                packets[index] = packet;
+            }
+            viewer.sendGlobalScore(this, packet);
+        }
+    }
+}
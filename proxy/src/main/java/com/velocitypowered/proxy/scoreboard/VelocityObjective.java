@@ -25,33 +25,64 @@ import com.velocitypowered.api.event.scoreboard.ObjectiveEvent;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.scoreboard.*;
 import com.velocitypowered.proxy.ScoreboardEventSource;
+import com.velocitypowered.proxy.data.TextHolderImpl;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.DisplayObjectivePacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket.ObjectiveAction;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 @Getter
 public class VelocityObjective implements ProxyObjective {
 
+    /** Whether scores of objectives without a display slot should only be sent once the objective is displayed */
+    @Setter
+    private static boolean deferScoresUntilDisplayed = false;
+
+    /** Whether objectives displayed in a sidebar should only send scores visible in the sidebar */
+    @Setter
+    private static boolean sidebarWindowing = false;
+
     @NonNull private final VelocityScoreboard scoreboard;
     @NonNull private final String name;
     @NonNull private TextHolder title;
     @NonNull private HealthDisplay healthDisplay;
     @Nullable private NumberFormat numberFormat;
-    @Nullable private DisplaySlot displaySlot;
+    @Nullable private volatile DisplaySlot displaySlot;
     private boolean registered = true;
     private final Map<String, VelocityScore> scores = new ConcurrentHashMap<>();
 
+    /** Whether some scores were not sent because this objective was not displayed, only accessed from the viewer's event loop */
+    @Getter(AccessLevel.NONE)
+    private boolean hasDeferredScores;
+
+    /** Scores ordered by rank, created on the first rank query, so that objectives which are never queried do not maintain it */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private volatile ScoreRanking ranking;
+
+    /** Preallocated task applying display slot change to sent scores */
+    @Getter(AccessLevel.NONE)
+    private final Runnable displayTask = this::updateDisplay;
+
+    /** Visible window of scores while displayed in a sidebar with windowing enabled, only accessed from the viewer's event loop */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private SidebarWindow window;
+
     private VelocityObjective(@NonNull VelocityScoreboard scoreboard, @NonNull String name, @NonNull TextHolder title,
                              @NonNull HealthDisplay healthDisplay, @Nullable NumberFormat numberFormat, @Nullable DisplaySlot displaySlot) {
         this.scoreboard = scoreboard;
@@ -71,6 +102,7 @@ public class VelocityObjective implements ProxyObjective {
         if (this.displaySlot == displayEvent.getNewSlot()) return;
         scoreboard.setDisplaySlot(displayEvent.getNewSlot(), this);
         this.displaySlot = displayEvent.getNewSlot();
+        scheduleDisplayUpdate(); // Before display packet
         scoreboard.sendPacket(new DisplayObjectivePacket(displayEvent.getNewSlot(), name));
     }
 
@@ -92,6 +124,19 @@ public class VelocityObjective implements ProxyObjective {
         tryUpdate(title, healthDisplay, numberFormat);
     }
 
+    /**
+     * Sets title to a frame of an animation or a rendered template without firing an event. Does nothing if
+     * this objective was unregistered.
+     *
+     * @param   title
+     *          New title
+     */
+    void setAnimatedTitle(@NonNull TextHolder title) {
+        if (!registered || this.title == title) return;
+        this.title = title;
+        scoreboard.sendPacket(new ObjectivePacket(ObjectiveAction.UPDATE, name, title, healthDisplay, numberFormat));
+    }
+
     private void tryUpdate(@NonNull TextHolder title, @NonNull HealthDisplay healthDisplay, @Nullable NumberFormat numberFormat) {
         checkState();
         ObjectiveEvent.Update event = new ObjectiveEvent.Update(scoreboard.getViewer(), true, name, title, healthDisplay, numberFormat);
@@ -104,6 +149,36 @@ public class VelocityObjective implements ProxyObjective {
         scoreboard.sendPacket(new ObjectivePacket(ObjectiveAction.UPDATE, this.name, this.title, this.healthDisplay, this.numberFormat));
     }
 
+    /**
+     * Updates properties, display slot and scores of this objective to match given builders. Only what is not
+     * equal to the current state is sent. Display slot is only changed if one is set in the builder.
+     *
+     * @param   desired
+     *          Builder with desired properties
+     * @param   desiredScores
+     *          Desired scores by holder
+     */
+    void reconcile(@NonNull Builder desired, @NonNull Map<String, VelocityScore.Builder> desiredScores) {
+        checkState();
+        TextHolder newTitle = title.equals(desired.getTitle()) ? title : desired.getTitle();
+        if (newTitle != title || healthDisplay != desired.getHealthDisplay() || !Objects.equals(numberFormat, desired.getNumberFormat())) {
+            tryUpdate(newTitle, desired.getHealthDisplay(), desired.getNumberFormat());
+        }
+        if (desired.getDisplaySlot() != null && desired.getDisplaySlot() != displaySlot) {
+            setDisplaySlot(desired.getDisplaySlot());
+        }
+        for (VelocityScore score : List.copyOf(scores.values())) {
+            if (!desiredScores.containsKey(score.getHolder())) removeScore(score.getHolder());
+        }
+        for (VelocityScore.Builder builder : desiredScores.values()) {
+            VelocityScore score = scores.get(builder.getHolder());
+            if (score != null && score.getScore() == builder.getScore() &&
+                    Objects.equals(score.getDisplayName(), builder.getDisplayName()) &&
+                    Objects.equals(score.getNumberFormat(), builder.getNumberFormat())) continue;
+            setScore(builder.getHolder(), s -> s.score(builder.getScore()).displayName(builder.getDisplayName()).numberFormat(builder.getNumberFormat()));
+        }
+    }
+
     @Override
     @NotNull
     public ProxyScore setScore(@NonNull String holder, @NonNull Consumer<ProxyScore.Builder> consumer) {
@@ -114,11 +189,47 @@ public class VelocityObjective implements ProxyObjective {
         if (score == null) {
             score = new VelocityScore(this, holder);
             scores.put(holder, score);
+            scoreboard.addScoreHolder(holder, this);
         }
         score.update(builder.getScore(), builder.getDisplayName(), builder.getNumberFormat());
         return score;
     }
 
+    @Override
+    @NotNull
+    public ProxyScore setScore(@NonNull String holder, int value) {
+        checkState();
+        VelocityScore score = scores.get(holder);
+        if (score == null) {
+            score = new VelocityScore(this, holder);
+            scores.put(holder, score);
+            scoreboard.addScoreHolder(holder, this);
+            score.update(value, null, null);
+        } else {
+            score.setScore(value);
+        }
+        return score;
+    }
+
+    /**
+     * Adds a new score from a template without firing an event.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   value
+     *          Score value
+     * @param   displayText
+     *          Prepared display name, {@code null} for none
+     * @param   numberFormat
+     *          Number format, {@code null} for default
+     */
+    void addTemplateScore(@NonNull String holder, int value, @Nullable TextHolderImpl displayText, @Nullable NumberFormat numberFormat) {
+        VelocityScore score = new VelocityScore(this, holder);
+        scores.put(holder, score);
+        scoreboard.addScoreHolder(holder, this);
+        score.setFromTemplate(value, displayText, numberFormat);
+    }
+
     @Override
     @Nullable
     public ProxyScore getScore(@NonNull String holder) {
@@ -132,6 +243,60 @@ public class VelocityObjective implements ProxyObjective {
         return Collections.unmodifiableCollection(scores.values());
     }
 
+    @Override
+    public int getRank(@NonNull String holder) {
+        checkState();
+        return getRanking().getRank(holder);
+    }
+
+    @Override
+    @NotNull
+    public List<ProxyScore> getTopScores(int limit) {
+        checkState();
+        return getRanking().getRange(1, limit);
+    }
+
+    @Override
+    @NotNull
+    public List<ProxyScore> getScoresInRange(int fromRank, int toRank) {
+        checkState();
+        return getRanking().getRange(fromRank, toRank);
+    }
+
+    /**
+     * Returns ranking of scores, creating it from current scores if this is the first rank query.
+     *
+     * @return  Ranking of scores
+     */
+    @NotNull
+    private ScoreRanking getRanking() {
+        ScoreRanking ranking = this.ranking;
+        if (ranking != null) return ranking;
+        synchronized (this) {
+            ranking = this.ranking;
+            if (ranking == null) {
+                ranking = new ScoreRanking();
+                // Published before filling, so that scores updated in the meantime are not missed
+                this.ranking = ranking;
+                for (VelocityScore score : scores.values()) {
+                    if (score.isRegistered()) ranking.update(score);
+                }
+            }
+        }
+        return ranking;
+    }
+
+    /**
+     * Moves score to its position by the current value. Does nothing if ranking was not queried yet.
+     *
+     * @param   score
+     *          Updated score
+     */
+    void updateRanking(@NonNull VelocityScore score) {
+        ScoreRanking ranking = this.ranking;
+        if (ranking != null) ranking.update(score);
+    }
+
     @Override
     public void removeScore(@NonNull String holder) {
         checkState();
@@ -139,11 +304,26 @@ public class VelocityObjective implements ProxyObjective {
         if (score == null) throw new IllegalArgumentException("Score \"" + holder + "\" is not in this objective (" + name + ")");
         score.remove();
         scores.remove(holder);
+        ScoreRanking ranking = this.ranking;
+        if (ranking != null) ranking.remove(holder);
+        scoreboard.removeScoreHolder(holder, this);
     }
 
     public void sendRegister() {
-        scoreboard.sendPacket(new ObjectivePacket(ObjectiveAction.REGISTER, name, title, healthDisplay, numberFormat));
+        sendRegister(new ObjectivePacket(ObjectiveAction.REGISTER, name, title, healthDisplay, numberFormat));
+    }
+
+    /**
+     * Sends given register packet of this objective, which may be shared with objectives created
+     * from the same template, followed by display slot.
+     *
+     * @param   packet
+     *          Register packet of this objective
+     */
+    void sendRegister(@NonNull ObjectivePacket packet) {
+        scoreboard.sendPacket(packet);
         if (displaySlot != null) {
+            scheduleDisplayUpdate();
             scoreboard.sendPacket(new DisplayObjectivePacket(displaySlot, name));
         }
     }
@@ -157,6 +337,135 @@ public class VelocityObjective implements ProxyObjective {
 
     public void clearDisplaySlot() {
         this.displaySlot = null;
+        scheduleDisplayUpdate();
+    }
+
+    private void scheduleDisplayUpdate() {
+        if (deferScoresUntilDisplayed || sidebarWindowing || InterestManager.isEnabled()) scoreboard.getExecutor().execute(displayTask);
+    }
+
+    /**
+     * Returns {@code true} if score updates should not be sent because this objective is not displayed,
+     * {@code false} if they should be sent.
+     *
+     * @return  {@code true} if score updates should be deferred, {@code false} if not
+     */
+    boolean shouldDeferScores() {
+        return deferScoresUntilDisplayed && displaySlot == null;
+    }
+
+    /**
+     * Returns {@code true} if only scores of holders in viewer's interest should be sent,
+     * which is when displayed below name with interest scoping enabled, {@code false} if not.
+     *
+     * @return  {@code true} if scores are scoped to viewer's interest, {@code false} if not
+     */
+    boolean isInterestScoped() {
+        return InterestManager.isEnabled() && displaySlot == DisplaySlot.BELOW_NAME;
+    }
+
+    /**
+     * Marks this objective as having deferred scores. Must be called from the viewer's event loop.
+     */
+    void markDeferredScores() {
+        hasDeferredScores = true;
+    }
+
+    /**
+     * Sends current state of a score if this objective allows it. Called from the viewer's event loop.
+     *
+     * @param   score
+     *          Score to send
+     */
+    void refreshScore(@NonNull VelocityScore score) {
+        if (shouldDeferScores()) {
+            score.defer();
+        } else if (isInterestScoped() && !scoreboard.isInInterest(score.getHolder())) {
+            score.hide();
+        } else if (window != null) {
+            window.update(score);
+        } else {
+            score.send();
+        }
+    }
+
+    /**
+     * Removes score from the sidebar window, if windowing is active. Called from the viewer's event loop.
+     *
+     * @param   score
+     *          Removed score
+     */
+    void removeFromWindow(@NonNull VelocityScore score) {
+        if (window != null) window.remove(score);
+    }
+
+    /**
+     * Sends or removes score of a holder who moved between backend servers.
+     * Called from the viewer's event loop.
+     *
+     * @param   holder
+     *          Score holder who moved
+     */
+    void updateInterest(@NonNull String holder) {
+        VelocityScore score = scores.get(holder);
+        if (score != null) updateInterest(score);
+    }
+
+    /**
+     * Sends or removes all scores after the viewer moved between backend servers.
+     * Called from the viewer's event loop.
+     */
+    void updateInterest() {
+        for (VelocityScore score : scores.values()) {
+            updateInterest(score);
+        }
+    }
+
+    private void updateInterest(@NonNull VelocityScore score) {
+        if (!isInterestScoped() || !score.isRegistered()) return;
+        if (scoreboard.isInInterest(score.getHolder())) {
+            if (score.needsSend()) refreshScore(score);
+        } else if (score.isOnClient()) {
+            score.hide();
+        }
+    }
+
+    /**
+     * Resends all scores after the client's scoreboard was reset. Called from the viewer's event loop.
+     */
+    void resendScores() {
+        window = null;
+        for (VelocityScore score : scores.values()) {
+            score.forgetClientState();
+        }
+        hasDeferredScores = true;
+        updateDisplay();
+    }
+
+    /**
+     * Applies current display slot to sent scores. When displayed in a sidebar with windowing enabled,
+     * only scores in the visible window are kept on the client. Otherwise, all deferred scores are sent
+     * in one batch, unless the objective is not displayed and scores are deferred until then.
+     * When displayed below name with interest scoping enabled, scores of holders out of viewer's
+     * interest are removed from the client.
+     * Called from the viewer's event loop before the display packet is handled.
+     */
+    private void updateDisplay() {
+        DisplaySlot slot = displaySlot;
+        if (sidebarWindowing && slot != null && SidebarWindow.isSidebar(slot)) {
+            if (window == null) {
+                window = new SidebarWindow();
+                window.build(scores.values());
+            }
+            return;
+        }
+        window = null;
+        if (isInterestScoped()) updateInterest();
+        if (shouldDeferScores() || !hasDeferredScores) return;
+        hasDeferredScores = false;
+        for (VelocityScore score : scores.values()) {
+            score.flushDeferred();
+        }
     }
 
     private void checkState() {
@@ -0,0 +1,187 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.scoreboard.Placeholder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of placeholder. Values are cached, shared value once for all players and player values
+ * for each player. When a value changes, only templates of affected viewers containing this placeholder
+ * are rendered again.
+ */
+public class VelocityPlaceholder implements Placeholder {
+
+    /** Identifier including the percent signs */
+    @NotNull
+    @Getter
+    private final String identifier;
+
+    /** Supplier of shared value, {@code null} if this is a player placeholder */
+    @Nullable
+    private final Supplier<String> supplier;
+
+    /** Function computing value for a player, {@code null} if this is a shared placeholder */
+    @Nullable
+    private final Function<Player, String> function;
+
+    /** Cached shared value */
+    @NotNull
+    private volatile String value = "";
+
+    /** Cached values of players who needed them */
+    private final Map<Player, String> values = new ConcurrentHashMap<>();
+
+    /** Bindings containing this placeholder by their viewer */
+    private final Map<Player, Set<VelocityScoreboardTemplates.TemplateBinding>> dependents = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs new shared placeholder.
+     *
+     * @param   identifier
+     *          Identifier including the percent signs
+     * @param   supplier
+     *          Supplier of the value
+     */
+    public VelocityPlaceholder(@NonNull String identifier, @NonNull Supplier<String> supplier) {
+        this.identifier = identifier;
+        this.supplier = supplier;
+        this.function = null;
+        value = String.valueOf(supplier.get());
+    }
+
+    /**
+     * Constructs new player placeholder.
+     *
+     * @param   identifier
+     *          Identifier including the percent signs
+     * @param   function
+     *          Function computing the value for a player
+     */
+    public VelocityPlaceholder(@NonNull String identifier, @NonNull Function<Player, String> function) {
+        this.identifier = identifier;
+        this.supplier = null;
+        this.function = function;
+    }
+
+    @Override
+    public boolean isShared() {
+        return supplier != null;
+    }
+
+    /**
+     * Returns cached value for given viewer, computing it if the viewer did not need it yet.
+     *
+     * @param   viewer
+     *          Viewer to get value for
+     * @return  Value for given viewer
+     */
+    @NotNull
+    public String getValue(@NonNull Player viewer) {
+        if (function == null) return value;
+        return values.computeIfAbsent(viewer, p -> String.valueOf(function.apply(p)));
+    }
+
+    @Override
+    public void update() {
+        if (supplier != null) {
+            synchronized (this) {
+                String newValue = String.valueOf(supplier.get());
+                if (newValue.equals(value)) return;
+                value = newValue;
+            }
+            for (Set<VelocityScoreboardTemplates.TemplateBinding> bindings : dependents.values()) {
+                refresh(bindings);
+            }
+        } else {
+            for (Player player : values.keySet()) {
+                update(player);
+            }
+        }
+    }
+
+    @Override
+    public void update(@NonNull Player player) {
+        if (function == null) {
+            update();
+            return;
+        }
+        synchronized (this) {
+            if (!values.containsKey(player)) return; // Not needed by anything yet
+            String newValue = String.valueOf(function.apply(player));
+            if (newValue.equals(values.put(player, newValue))) return;
+        }
+        Set<VelocityScoreboardTemplates.TemplateBinding> bindings = dependents.get(player);
+        if (bindings != null) refresh(bindings);
+    }
+
+    private void refresh(@NotNull Set<VelocityScoreboardTemplates.TemplateBinding> bindings) {
+        for (VelocityScoreboardTemplates.TemplateBinding binding : bindings) {
+            binding.refresh(this);
+        }
+    }
+
+    /**
+     * Adds binding to be rendered again when value for its viewer changes.
+     *
+     * @param   viewer
+     *          Viewer of the binding
+     * @param   binding
+     *          Binding containing this placeholder
+     */
+    public void addDependent(@NonNull Player viewer, @NonNull VelocityScoreboardTemplates.TemplateBinding binding) {
+        dependents.computeIfAbsent(viewer, p -> ConcurrentHashMap.newKeySet()).add(binding);
+    }
+
+    /**
+     * Removes binding previously added using {@link #addDependent(Player, VelocityScoreboardTemplates.TemplateBinding)}.
+     *
+     * @param   viewer
+     *          Viewer of the binding
+     * @param   binding
+     *          Binding to remove
+     */
+    public void removeDependent(@NonNull Player viewer, @NonNull VelocityScoreboardTemplates.TemplateBinding binding) {
+        Set<VelocityScoreboardTemplates.TemplateBinding> bindings = dependents.get(viewer);
+        if (bindings != null) bindings.remove(binding);
+    }
+
+    /**
+     * Forgets cached value and bindings of given player, who left.
+     *
+     * @param   player
+     *          Player who left
+     */
+    public void removePlayer(@NonNull Player player) {
+        values.remove(player);
+        dependents.remove(player);
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.scoreboard.ProxyTeam;
+import com.velocitypowered.api.scoreboard.RelationalNametags;
+import com.velocitypowered.proxy.data.StringCollection;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of relational nametags. Styles seen by each viewer on each target are stored
+ * in a bit matrix indexed by player ids, with each cell using as few bits as the amount of styles
+ * requires. Updates only evaluate the rule for the row and column of the changed player and send
+ * differences to each viewer as one packet per team.
+ */
+public class VelocityRelationalNametags implements RelationalNametags {
+
+    /** Manager providing player ids and scoreboards */
+    @NotNull
+    private final VelocityScoreboardManager manager;
+
+    @NotNull
+    @Getter
+    private final String name;
+
+    /** Properties of style teams */
+    @NotNull
+    private final List<Consumer<ProxyTeam.PropertyBuilder>> styles;
+
+    /** Rule deciding styles */
+    @NotNull
+    private final Rule rule;
+
+    /** Team names of styles */
+    @NotNull
+    private final String[] teamNames;
+
+    /** Amount of bits used by one cell, style {@code -1} is stored as {@code 0} */
+    private final int bitsPerCell;
+
+    /** Styles seen by viewers, indexed by viewer id, with cells indexed by target id */
+    @Nullable
+    private BitSet[] rows = new BitSet[64];
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   manager
+     *          Manager providing player ids and scoreboards
+     * @param   name
+     *          Name used as prefix of team names
+     * @param   styles
+     *          Properties of teams of each style
+     * @param   rule
+     *          Rule deciding which style viewer sees on target
+     */
+    public VelocityRelationalNametags(@NonNull VelocityScoreboardManager manager, @NonNull String name,
+                                      @NonNull List<Consumer<ProxyTeam.PropertyBuilder>> styles, @NonNull Rule rule) {
+        this.manager = manager;
+        this.name = name;
+        this.styles = List.copyOf(styles);
+        this.rule = rule;
+        teamNames = new String[styles.size()];
+        for (int i = 0; i < teamNames.length; i++) {
+            teamNames[i] = name + i;
+            if (teamNames[i].length() > 16) throw new IllegalArgumentException("Name " + name + " is too long for team names");
+        }
+        bitsPerCell = 32 - Integer.numberOfLeadingZeros(styles.size());
+    }
+
+    @Override
+    public synchronized void update(@NonNull Player player) {
+        if (rows == null || !player.isActive()) return;
+        VelocityScoreboard subject = manager.getProxyScoreboard(player);
+        List<VelocityScoreboard> players = getPlayers();
+        Changes changes = new Changes();
+        for (VelocityScoreboard target : players) {
+            evaluate(subject, target, changes);
+        }
+        changes.apply(subject);
+        for (VelocityScoreboard viewer : players) {
+            if (viewer == subject) continue;
+            evaluate(viewer, subject, changes);
+            changes.apply(viewer);
+        }
+    }
+
+    @Override
+    public synchronized void updateAll() {
+        if (rows == null) return;
+        List<VelocityScoreboard> players = getPlayers();
+        Changes changes = new Changes();
+        for (VelocityScoreboard viewer : players) {
+            for (VelocityScoreboard target : players) {
+                evaluate(viewer, target, changes);
+            }
+            changes.apply(viewer);
+        }
+    }
+
+    @Override
+    public synchronized int getStyle(@NonNull Player viewer, @NonNull Player target) {
+        int viewerId = manager.getPlayerId(viewer);
+        int targetId = manager.getPlayerId(target);
+        if (viewerId == -1 || targetId == -1) return -1;
+        return get(viewerId, targetId);
+    }
+
+    /**
+     * Forgets styles of a player who disconnected and removes the player from teams of other viewers.
+     *
+     * @param   scoreboard
+     *          Scoreboard of player who disconnected
+     */
+    public synchronized void removePlayer(@NonNull VelocityScoreboard scoreboard) {
+        if (rows == null) return;
+        int id = scoreboard.getPlayerId();
+        if (id < rows.length) rows[id] = null;
+        Changes changes = new Changes();
+        for (VelocityScoreboard viewer : manager.getProxyScoreboards()) {
+            int style = get(viewer.getPlayerId(), id);
+            if (style == -1) continue;
+            set(viewer.getPlayerId(), id, -1);
+            changes.remove(style, scoreboard.getViewer().getUsername());
+            changes.apply(viewer);
+        }
+    }
+
+    /**
+     * Unregisters teams of all styles from all players.
+     */
+    public synchronized void unregister() {
+        rows = null;
+        for (VelocityScoreboard viewer : manager.getProxyScoreboards()) {
+            for (String teamName : teamNames) {
+                if (viewer.getTeam(teamName) != null) viewer.unregisterTeam(teamName);
+            }
+        }
+    }
+
+    @NotNull
+    private List<VelocityScoreboard> getPlayers() {
+        List<VelocityScoreboard> players = new ArrayList<>();
+        for (Player player : manager.getServer().getAllPlayers()) {
+            if (player.isActive()) players.add(manager.getProxyScoreboard(player));
+        }
+        return players;
+    }
+
+    private void evaluate(@NotNull VelocityScoreboard viewer, @NotNull VelocityScoreboard target, @NotNull Changes changes) {
+        int style = rule.getStyle(viewer.getViewer(), target.getViewer());
+        if (style < -1 || style >= teamNames.length) {
+            throw new IllegalArgumentException("Rule returned style " + style + ", but only " + teamNames.length + " styles exist");
+        }
+        int previous = get(viewer.getPlayerId(), target.getPlayerId());
+        if (style == previous) return;
+        set(viewer.getPlayerId(), target.getPlayerId(), style);
+        String entry = target.getViewer().getUsername();
+        if (style == -1) {
+            changes.remove(previous, entry);
+        } else {
+            changes.add(style, entry); // Adding into a team removes the entry from the previous one
+        }
+    }
+
+    private int get(int viewer, int target) {
+        BitSet row = viewer < rows.length ? rows[viewer] : null;
+        if (row == null) return -1;
+        int offset = target * bitsPerCell;
+        int value = 0;
+        for (int i = 0; i < bitsPerCell; i++) {
+            if (row.get(offset + i)) value |= 1 << i;
+        }
+        return value - 1;
+    }
+
+    private void set(int viewer, int target, int style) {
+        if (viewer >= rows.length) rows = Arrays.copyOf(rows, Math.max(rows.length * 2, viewer + 1));
+        BitSet row = rows[viewer];
+        if (row == null) {
+            if (style == -1) return;
+            row = new BitSet();
+            rows[viewer] = row;
+        }
+        int offset = target * bitsPerCell;
+        int value = style + 1;
+        for (int i = 0; i < bitsPerCell; i++) {
+            row.set(offset + i, (value >> i & 1) != 0);
+        }
+    }
+
+    /**
+     * Changes of styles for a single viewer, grouped by team.
+     */
+    private class Changes {
+
+        /** Entries to add by style */
+        private final StringCollection[] added = new StringCollection[teamNames.length];
+
+        /** Entries to remove by style */
+        private final StringCollection[] removed = new StringCollection[teamNames.length];
+
+        private void add(int style, @NotNull String entry) {
+            if (added[style] == null) added[style] = new StringCollection();
+            added[style].add(entry);
+        }
+
+        private void remove(int style, @NotNull String entry) {
+            if (removed[style] == null) removed[style] = new StringCollection();
+            removed[style].add(entry);
+        }
+
+        /**
+         * Sends changes to the viewer and clears them.
+         *
+         * @param   viewer
+         *          Viewer to send changes to
+         */
+        private void apply(@NotNull VelocityScoreboard viewer) {
+            for (int style = 0; style < teamNames.length; style++) {
+                StringCollection entries = removed[style];
+                if (entries == null) continue;
+                removed[style] = null;
+                VelocityTeam team = viewer.getTeam(teamNames[style]);
+                if (team == null) continue;
+                List<String> present = new ArrayList<>(entries.size());
+                for (String entry : entries.getEntries()) {
+                    // Entry may have been moved into another team in the meantime
+                    if (team.getEntryCollection().contains(entry)) present.add(entry);
+                }
+                if (!present.isEmpty()) team.removeEntries(present);
+            }
+            for (int style = 0; style < teamNames.length; style++) {
+                StringCollection entries = added[style];
+                if (entries == null) continue;
+                added[style] = null;
+                VelocityTeam team = viewer.getTeam(teamNames[style]);
+                if (team == null) {
+                    VelocityTeam.Builder builder = viewer.teamBuilder(teamNames[style]);
+                    styles.get(style).accept(builder);
+                    viewer.registerTeam(builder.entries(entries.getEntries()));
+                } else {
+                    team.addEntries(entries.getEntries());
+                }
+            }
+        }
+    }
+}
@@ -20,14 +20,13 @@
 
 package com.velocitypowered.proxy.scoreboard;
 
+import com.velocitypowered.api.TextHolder;
 import com.velocitypowered.api.event.scoreboard.ScoreEvent;
-import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.scoreboard.NumberFormat;
 import com.velocitypowered.api.scoreboard.ProxyScore;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
-import com.velocitypowered.proxy.protocol.packet.scoreboard.ScorePacket;
-import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreResetPacket;
-import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreSetPacket;
+import com.velocitypowered.proxy.data.TextHolderImpl;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +36,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Getter
 @RequiredArgsConstructor
@@ -49,6 +49,39 @@ public class VelocityScore implements ProxyScore {
     @Nullable private NumberFormat numberFormat;
     private boolean registered = true;
 
+    /** Whether this score was sent at least once, so that a new score with default values is not skipped */
+    @Getter(AccessLevel.NONE)
+    private boolean sent;
+
+    /** Whether an update of this score is already waiting in the viewer's executor */
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+
+    /** Preallocated task flushing the latest state of this score, avoiding a lambda per update */
+    @Getter(AccessLevel.NONE)
+    private final Runnable updateTask = this::flushUpdate;
+
+    /** Whether latest state was not sent because the objective did not allow it. Only accessed from the viewer's event loop. */
+    @Getter(AccessLevel.NONE)
+    private boolean deferred;
+
+    /** Whether the client has this score. Only accessed from the viewer's event loop. */
+    @Getter(AccessLevel.NONE)
+    private boolean onClient;
+
+    /** Text the display name was last set from by an animation, reused if display name did not change since */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private TextHolderImpl displayText;
+
+    /**
+     * Last packet sent for this score, reused for the next update once it was written or if writing it again
+     * replaces it. Only accessed from the viewer's event loop.
+     */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private MinecraftPacket updatePacket;
+
     @Override
     public void setScore(int score) {
         if (this.score == score) return;
@@ -69,42 +102,182 @@ public class VelocityScore implements ProxyScore {
 
     public void update(int score, @Nullable Component displayName, @Nullable NumberFormat numberFormat) {
         if (!registered) throw new IllegalStateException("This score was unregistered");
-        ScoreEvent.Set event = new ScoreEvent.Set(
-                objective.getScoreboard().getViewer(),
-                true,
-                objective.getName(),
-                holder,
-                score,
-                displayName,
-                numberFormat
-        );
-        objective.getScoreboard().getEventSource().fireEvent(event);
-        if (this.score == event.getScore() &&
-                this.displayName == event.getDisplayName() &&
-                this.numberFormat == event.getNumberFormat()) {
+        VelocityScoreboard scoreboard = objective.getScoreboard();
+        if (scoreboard.getEventSource().isFiringEvents(ScoreEvent.Set.class)) {
+            ScoreEvent.Set event = new ScoreEvent.Set(
+                    scoreboard.getViewer(),
+                    true,
+                    objective.getName(),
+                    holder,
+                    score,
+                    displayName,
+                    numberFormat
+            );
+            scoreboard.getEventSource().fireEvent(event);
+            score = event.getScore();
+            displayName = event.getDisplayName();
+            numberFormat = event.getNumberFormat();
+        }
+        if (sent &&
+                this.score == score &&
+                this.displayName == displayName &&
+                this.numberFormat == numberFormat) {
             return;
         }
-        this.score = event.getScore();
-        this.displayName = event.getDisplayName();
-        this.numberFormat = event.getNumberFormat();
+        sent = true;
+        this.score = score;
+        this.displayName = displayName;
+        this.numberFormat = numberFormat;
+        objective.updateRanking(this);
+        sendUpdate();
+    }
+
+    /**
+     * Sets display name to a frame of an animation without firing an event. Serialized form of the frame
+     * is reused when sending, if the frame was prepared.
+     *
+     * @param   displayName
+     *          New display name
+     */
+    void setAnimatedDisplayName(@NonNull TextHolder displayName) {
+        if (!registered) return;
+        displayText = (TextHolderImpl) displayName;
+        if (sent && this.displayName == displayText.getModernText()) return;
+        sent = true;
+        this.displayName = displayText.getModernText();
         sendUpdate();
     }
 
+    /**
+     * Sets initial state of this score from a template without firing an event. Serialized form of the
+     * display name is shared with all scores created from the template.
+     *
+     * @param   score
+     *          Score value
+     * @param   displayText
+     *          Prepared display name, {@code null} for none
+     * @param   numberFormat
+     *          Number format, {@code null} for default
+     */
+    void setFromTemplate(int score, @Nullable TextHolderImpl displayText, @Nullable NumberFormat numberFormat) {
+        sent = true;
+        this.score = score;
+        this.displayText = displayText;
+        this.displayName = displayText != null ? displayText.getModernText() : null;
+        this.numberFormat = numberFormat;
+        objective.updateRanking(this);
+        sendUpdate();
+    }
+
+    /**
+     * Schedules sending current state of this score to the viewer. Multiple calls before
+     * the viewer's executor gets to run the update only result in a single packet.
+     */
     public void sendUpdate() {
-        if (objective.getScoreboard().getViewer().getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-            ComponentHolder cHolder = displayName == null ? null : new ComponentHolder(objective.getScoreboard().getViewer().getProtocolVersion(), displayName);
-            objective.getScoreboard().sendPacket(new ScoreSetPacket(holder, objective.getName(), score, cHolder, numberFormat));
-        } else {
-            objective.getScoreboard().sendPacket(new ScorePacket(ScorePacket.ScoreAction.SET, holder, objective.getName(), score));
+        if (!updateScheduled.getAndSet(true)) {
+            objective.getScoreboard().getExecutor().execute(updateTask);
         }
     }
 
-    public void sendRemove() {
-        if (objective.getScoreboard().getViewer().getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-            objective.getScoreboard().sendPacket(new ScoreResetPacket(holder, objective.getName()));
+    /**
+     * Sends current state of this score if it is still registered. Called from the viewer's event loop.
+     */
+    private void flushUpdate() {
+        // Reading the flag synchronizes with every writer which found the update already scheduled,
+        // so their changes of the fields below are visible here
+        updateScheduled.getAndSet(false);
+        if (!registered) return;
+        objective.refreshScore(this);
+    }
+
+    /**
+     * Marks this score to be sent once the objective allows it. Must be called from the viewer's event loop.
+     */
+    void defer() {
+        deferred = true;
+        objective.markDeferredScores();
+    }
+
+    /**
+     * Sends this score if it was deferred and the objective allows it. Must be called from the viewer's event loop.
+     */
+    void flushDeferred() {
+        if (!deferred || !registered) return;
+        objective.refreshScore(this);
+    }
+
+    /**
+     * Returns {@code true} if the client does not have the latest state of this score,
+     * {@code false} if it does. Must be called from the viewer's event loop.
+     *
+     * @return  {@code true} if this score needs to be sent, {@code false} if not
+     */
+    boolean needsSend() {
+        return deferred || !onClient;
+    }
+
+    /**
+     * Returns {@code true} if the client has this score, {@code false} if not.
+     * Must be called from the viewer's event loop.
+     *
+     * @return  {@code true} if the client has this score, {@code false} if not
+     */
+    boolean isOnClient() {
+        return onClient;
+    }
+
+    /**
+     * Sends current state of this score. Must be called from the viewer's event loop.
+     */
+    void send() {
+        deferred = false;
+        onClient = true;
+        VelocityScoreboard scoreboard = objective.getScoreboard();
+        MinecraftPacket updatePacket = this.updatePacket;
+        if (updatePacket != null && !scoreboard.isReusable(updatePacket, objective.getName(), holder)) {
+            updatePacket = null; // Still waiting to be written before a barrier, must not be modified
+        }
+        TextHolderImpl text = displayText;
+        if (text != null && displayName != null && text.getModernText() == displayName) {
+            updatePacket = scoreboard.getCodec().scoreSet(updatePacket, holder, objective.getName(), score,
+                    text.getHolder(scoreboard.getViewer().getProtocolVersion()), numberFormat);
         } else {
-            objective.getScoreboard().sendPacket(new ScorePacket(ScorePacket.ScoreAction.RESET, holder, objective.getName(), 0));
+            updatePacket = scoreboard.getCodec().scoreSet(updatePacket, holder, objective.getName(), score, displayName, numberFormat);
         }
+        this.updatePacket = updatePacket;
+        scoreboard.sendScorePacketNow(updatePacket);
+    }
+
+    /**
+     * Removes this score from the client while keeping it registered, deferring it until
+     * it can be shown again. Must be called from the viewer's event loop.
+     */
+    void hide() {
+        if (onClient) sendReset();
+        defer();
+    }
+
+    /**
+     * Forgets that the client has this score after the client's scoreboard was reset.
+     * Must be called from the viewer's event loop.
+     */
+    void forgetClientState() {
+        onClient = false;
+        deferred = true;
+    }
+
+    private void sendReset() {
+        onClient = false;
+        VelocityScoreboard scoreboard = objective.getScoreboard();
+        scoreboard.sendScorePacketNow(scoreboard.getCodec().scoreReset(holder, objective.getName()));
+    }
+
+    /**
+     * Removes this score from the client. Called from the viewer's event loop.
+     */
+    private void flushRemove() {
+        if (onClient) sendReset();
+        objective.removeFromWindow(this);
     }
 
     public void remove() {
@@ -116,7 +289,7 @@ public class VelocityScore implements ProxyScore {
                 objective.getName(),
                 holder
         ));
-        sendRemove();
+        objective.getScoreboard().getExecutor().execute(this::flushRemove);
     }
 
     /**
@@ -24,9 +24,9 @@ import com.velocitypowered.proxy.ScoreboardEventSource;
 import com.velocitypowered.api.network.ProtocolVersion;
 import com.velocitypowered.api.scoreboard.*;
 import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.data.ScoreboardCodec;
 import com.velocitypowered.proxy.data.StringCollection;
 import com.velocitypowered.proxy.protocol.MinecraftPacket;
-import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.*;
 import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket.ObjectiveAction;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamObjective;
@@ -35,7 +35,7 @@ import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamTeam;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -43,7 +43,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
-@RequiredArgsConstructor
 public class VelocityScoreboard implements ProxyScoreboard {
 
     public static final ProtocolVersion MAXIMUM_SUPPORTED_VERSION = ProtocolVersion.MINECRAFT_26_2;
@@ -60,11 +59,111 @@ public class VelocityScoreboard implements ProxyScoreboard {
     private final Map<String, VelocityTeam> teams = new ConcurrentHashMap<>();
     private final Map<DisplaySlot, VelocityObjective> displaySlots = new ConcurrentHashMap<>();
     private final Map<String, VelocityTeam> teamEntries = new ConcurrentHashMap<>();
+
+    /** Map of score holders and objectives they have a score in, for resetting a holder in all objectives */
+    private final Map<String, Set<VelocityObjective>> holderObjectives = new ConcurrentHashMap<>();
     private final DownstreamScoreboard downstream;
 
-    /** Flag tracking if this scoreboard is frozen. While frozen, no packets will get through. */
+    /** Flag tracking whether viewer's protocol version is newer than the maximum supported version */
+    private final boolean unsupported;
+
+    /** Codec for the viewer's protocol version */
+    @Getter
+    @NotNull
+    private final ScoreboardCodec codec;
+
+    /** Executor running packet handling on the viewer's event loop */
+    @Getter
+    @NotNull
+    private final ViewerExecutor executor;
+
+    /** Filter for packets which would not change anything on the client, only accessed from the viewer's event loop */
+    @Getter
+    @NotNull
+    private final RedundantPacketFilter filter;
+
+    /** Queue for outgoing packets, only accessed from the viewer's event loop */
+    private final OutboundQueue outbound;
+
+    /** What the proxy owns on the client, only accessed from the viewer's event loop */
+    private final ClientView clientView = new ClientView();
+
+    /** Global objectives shown to this viewer, only accessed from the viewer's event loop */
+    private final Set<VelocityGlobalObjective> globalObjectives = new HashSet<>();
+
+    /** Tablist order using teams of this scoreboard */
+    @Getter
+    @NotNull
+    private final VelocityTabListOrder tabListOrder = new VelocityTabListOrder(this);
+
+    /** Sidebar displaying lines of text using this scoreboard */
+    @Getter
+    @NotNull
+    private final VelocitySidebar sidebar;
+
+    /** Templates bound to this scoreboard */
+    @Getter
+    @NotNull
+    private final VelocityScoreboardTemplates templates;
+
+    /** Names of teams registered by reconciliation, guarded by this scoreboard's monitor */
+    private final Set<String> reconciledTeams = new HashSet<>();
+
+    /** Names of objectives registered by reconciliation, guarded by this scoreboard's monitor */
+    private final Set<String> reconciledObjectives = new HashSet<>();
+
+    /** Compact id of the viewer, used as index into global objective scores */
+    @Getter
+    private final int playerId;
+
+    /** Tracker of backend servers players are connected to */
+    private final InterestManager interest;
+
+    /** Entries of nametag-only teams and their team, only accessed from the viewer's event loop */
+    private final Map<String, VelocityTeam> scopedEntries = new HashMap<>();
+
+    /** Entries of nametag-only teams not sent because they are out of viewer's interest, only accessed from the viewer's event loop */
+    private final Set<String> hiddenEntries = new HashSet<>();
+
+    /**
+     * Flag tracking if this scoreboard is frozen. While frozen, no packets will get through.
+     * Only accessed from the viewer's event loop.
+     */
     private boolean frozen;
 
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   eventSource
+     *          Source to fire events to
+     * @param   viewer
+     *          Player this scoreboard belongs to
+     * @param   downstream
+     *          Backend scoreboard of the player
+     * @param   playerId
+     *          Compact id of the player
+     * @param   interest
+     *          Tracker of backend servers players are connected to
+     * @param   placeholders
+     *          Engine parsing templates bound to this scoreboard
+     */
+    public VelocityScoreboard(@NonNull ScoreboardEventSource eventSource, @NonNull ConnectedPlayer viewer,
+                              @NonNull DownstreamScoreboard downstream, int playerId, @NonNull InterestManager interest,
+                              @NonNull PlaceholderEngine placeholders) {
+        this.eventSource = eventSource;
+        this.playerId = playerId;
+        this.interest = interest;
+        this.viewer = viewer;
+        this.downstream = downstream;
+        this.unsupported = viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION);
+        this.codec = ScoreboardCodec.of(viewer.getProtocolVersion());
+        this.executor = new ViewerExecutor(viewer.getConnection().eventLoop());
+        this.filter = new RedundantPacketFilter(viewer.getProtocolVersion());
+        this.outbound = new OutboundQueue(viewer, filter);
+        this.sidebar = new VelocitySidebar(this);
+        this.templates = new VelocityScoreboardTemplates(this, placeholders);
+    }
+
     @Override
     @NotNull
     public VelocityTeam.Builder teamBuilder(@NonNull String name) {
@@ -110,9 +209,38 @@ public class VelocityScoreboard implements ProxyScoreboard {
         VelocityObjective objective = objectives.remove(objectiveName);
         if (objective == null) throw new IllegalStateException("This scoreboard does not contain an objective named " + objectiveName);
         displaySlots.entrySet().removeIf(entry -> entry.getValue().getName().equals(objectiveName));
+        for (ProxyScore score : objective.getAllScores()) {
+            removeScoreHolder(score.getHolder(), objective);
+        }
         objective.unregister();
     }
 
+    /**
+     * Returns objectives in which given holder has a score.
+     *
+     * @param   holder
+     *          Score holder
+     * @return  Objectives containing a score of this holder
+     */
+    @NotNull
+    public Collection<VelocityObjective> getObjectivesByScoreHolder(@NonNull String holder) {
+        Set<VelocityObjective> objectives = holderObjectives.get(holder);
+        return objectives == null ? Collections.emptySet() : objectives;
+    }
+
+    @ApiStatus.Internal
+    public void addScoreHolder(@NonNull String holder, @NonNull VelocityObjective objective) {
+        holderObjectives.computeIfAbsent(holder, k -> ConcurrentHashMap.newKeySet()).add(objective);
+    }
+
+    @ApiStatus.Internal
+    public void removeScoreHolder(@NonNull String holder, @NonNull VelocityObjective objective) {
+        holderObjectives.computeIfPresent(holder, (k, objectives) -> {
+            objectives.remove(objective);
+            return objectives.isEmpty() ? null : objectives;
+        });
+    }
+
     @NotNull
     @Override
     public VelocityTeam registerTeam(@NonNull ProxyTeam.Builder builder) {
@@ -183,7 +311,108 @@ public class VelocityScoreboard implements ProxyScoreboard {
         }
     }
 
+    @Override
+    @NotNull
+    public VelocityScoreboardState.Builder stateBuilder() {
+        return new VelocityScoreboardState.Builder();
+    }
+
+    @Override
+    public synchronized void reconcile(@NonNull ScoreboardState state) {
+        VelocityScoreboardState desired = (VelocityScoreboardState) state;
+        executor.batch(() -> {
+            // Removals first, so that entries never end up in two teams
+            for (String name : List.copyOf(reconciledTeams)) {
+                if (desired.getTeams().containsKey(name)) continue;
+                reconciledTeams.remove(name);
+                if (teams.containsKey(name)) unregisterTeam(name);
+            }
+            for (String name : List.copyOf(reconciledObjectives)) {
+                if (desired.getObjectives().containsKey(name)) continue;
+                reconciledObjectives.remove(name);
+                if (objectives.containsKey(name)) unregisterObjective(name);
+            }
+            for (VelocityTeam.Builder builder : desired.getTeams().values()) {
+                VelocityTeam team = teams.get(builder.getName());
+                if (team == null) continue;
+                if (team.isNametagOnly() != builder.isNametagOnly()) {
+                    unregisterTeam(builder.getName()); // Cannot be changed, register again
+                } else {
+                    team.retainEntries(builder.getEntries() != null ? new HashSet<>(builder.getEntries()) : Collections.emptySet());
+                }
+            }
+
+            for (VelocityTeam.Builder builder : desired.getTeams().values()) {
+                VelocityTeam team = teams.get(builder.getName());
+                if (team == null) {
+                    registerTeam(builder);
+                    reconciledTeams.add(builder.getName());
+                } else {
+                    team.reconcileProperties(builder);
+                    if (builder.getEntries() != null) team.addEntries(builder.getEntries());
+                }
+            }
+            for (VelocityObjective.Builder builder : desired.getObjectives().values()) {
+                VelocityObjective objective = objectives.get(builder.getName());
+                if (objective != null && objective.getDisplaySlot() != null && builder.getDisplaySlot() == null) {
+                    unregisterObjective(builder.getName()); // Display slot cannot be cleared, register again
+                    objective = null;
+                }
+                if (objective == null) {
+                    objective = registerObjective(builder);
+                    reconciledObjectives.add(builder.getName());
+                }
+                objective.reconcile(builder, desired.getScores(builder.getName()));
+            }
+        });
+    }
+
+    @Override
+    public synchronized void applyTemplate(@NonNull ScoreboardTemplate template) {
+        VelocityScoreboardTemplate velocityTemplate = (VelocityScoreboardTemplate) template;
+        for (VelocityScoreboardTemplate.TeamData data : velocityTemplate.getTeams()) {
+            if (teams.containsKey(data.name())) {
+                throw new IllegalStateException("A team with this name (" + data.name() + ") already exists");
+            }
+        }
+        for (VelocityScoreboardTemplate.ObjectiveData data : velocityTemplate.getObjectives()) {
+            if (objectives.containsKey(data.builder().getName())) {
+                throw new IllegalStateException("An objective with this name (" + data.builder().getName() + ") already exists in this scoreboard");
+            }
+        }
+        VelocityScoreboardTemplate.Packets packets = velocityTemplate.getPackets(viewer.getProtocolVersion());
+        executor.batch(() -> {
+            List<VelocityScoreboardTemplate.TeamData> templateTeams = velocityTemplate.getTeams();
+            for (int i = 0; i < templateTeams.size(); i++) {
+                VelocityScoreboardTemplate.TeamData data = templateTeams.get(i);
+                VelocityTeam team = VelocityTeam.shared(this, data.name(), data.properties(), data.entries(), data.nametagOnly());
+                teams.put(team.getName(), team);
+                for (String entry : data.entries().getEntries()) {
+                    VelocityTeam oldTeam = teamEntries.put(entry, team);
+                    if (oldTeam != null) {
+                        oldTeam.removeEntrySilent(entry);
+                    }
+                }
+                sendPacket(packets.teams()[i], team);
+            }
+            List<VelocityScoreboardTemplate.ObjectiveData> templateObjectives = velocityTemplate.getObjectives();
+            for (int i = 0; i < templateObjectives.size(); i++) {
+                VelocityScoreboardTemplate.ObjectiveData data = templateObjectives.get(i);
+                VelocityObjective objective = data.builder().build(this);
+                objectives.put(objective.getName(), objective);
+                if (objective.getDisplaySlot() != null) {
+                    displaySlots.put(objective.getDisplaySlot(), objective);
+                }
+                objective.sendRegister(packets.objectives()[i]);
+                for (VelocityScoreboardTemplate.ScoreData score : data.scores()) {
+                    objective.addTemplateScore(score.holder(), score.value(), score.displayText(), score.numberFormat());
+                }
+            }
+        });
+    }
+
     public void setDisplaySlot(@NonNull DisplaySlot displaySlot, @NonNull VelocityObjective objective) {
+        if (objective.getDisplaySlot() != null) displaySlots.remove(objective.getDisplaySlot(), objective);
         VelocityObjective previous = displaySlots.put(displaySlot, objective);
         if (previous != null) previous.clearDisplaySlot();
     }
@@ -192,42 +421,46 @@ public class VelocityScoreboard implements ProxyScoreboard {
      * Resends the entire scoreboard. This function is called on server switch. It mostly performs a raw
      * packet write instead of calling existing register functions to skip checks and avoid
      * potentially incorrect behavior, such as when a team/objective name is on both proxy and backend.
+     * Packets still go through the outbound queue to be written with a single flush.
      */
-    public synchronized void resend() {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+    public void resend() {
+        executor.execute(this::resend0);
+    }
+
+    private void resend0() {
+        if (unsupported) return;
         if (!frozen) return;
         for (VelocityTeam team : teams.values()) {
-            viewer.getConnection().write(new TeamPacket(
+            outbound.write(Objects.requireNonNull(scopeEntries(new TeamPacket(
                     TeamPacket.TeamAction.REGISTER,
                     team.getName(),
                     team.getProperties(),
-                    team.getEntryCollection()
-            ));
+                    team.getEntryCollection().copy()
+            ), team, null)));
         }
         for (VelocityObjective objective : objectives.values()) {
-            viewer.getConnection().write(new ObjectivePacket(
+            outbound.write(new ObjectivePacket(
                     ObjectiveAction.REGISTER,
                     objective.getName(),
                     objective.getTitle(),
                     objective.getHealthDisplay(),
                     objective.getNumberFormat()
             ));
-            if (objective.getDisplaySlot() != null) {
-                viewer.getConnection().write(new DisplayObjectivePacket(
+            clientView.registerObjective(objective.getName());
+            if (objective.getDisplaySlot() != null && clientView.display(objective.getDisplaySlot(), objective.getName())) {
+                outbound.write(new DisplayObjectivePacket(
                         objective.getDisplaySlot(),
                         objective.getName()
                 ));
             }
-            for (ProxyScore score : objective.getAllScores()) {
-                if (viewer.getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-                    ComponentHolder cHolder = score.getDisplayName() == null ? null : new ComponentHolder(objective.getScoreboard().getViewer().getProtocolVersion(), score.getDisplayName());
-                    viewer.getConnection().write(new ScoreSetPacket(score.getHolder(), objective.getName(), score.getScore(), cHolder, score.getNumberFormat()));
-                } else {
-                    viewer.getConnection().write(new ScorePacket(ScorePacket.ScoreAction.SET, score.getHolder(), objective.getName(), score.getScore()));
-                }
-            }
         }
         frozen = false;
+        for (VelocityObjective objective : objectives.values()) {
+            objective.resendScores();
+        }
+        for (VelocityGlobalObjective objective : globalObjectives) {
+            sendGlobalObjective(objective);
+        }
     }
 
     @Override
@@ -236,25 +469,50 @@ public class VelocityScoreboard implements ProxyScoreboard {
         return displaySlots.get(displaySlot);
     }
 
-    public synchronized void sendPacket(@NonNull DisplayObjectivePacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+    public void sendPacket(@NonNull DisplayObjectivePacket packet) {
+        if (unsupported) return;
+        executor.execute(() -> handle(packet));
+    }
+
+    private void handle(@NonNull DisplayObjectivePacket packet) {
+        if (frozen) return;
+        if (!clientView.display(packet.getPosition(), packet.getObjectiveName())) return; // Already displayed
         sendPacketSafe(packet);
 
-        // Check if a slot was freed
-        for (DisplaySlot slot : DisplaySlot.values()) {
-            if (!displaySlots.containsKey(slot)) {
-                // Slot is free, check if backend wants to display something
-                DownstreamObjective objective = downstream.getObjective(slot);
-                if (objective != null) {
-                    // Backend tried to display something in this slot, allow it now
-                    sendPacketSafe(new DisplayObjectivePacket(slot, objective.getName()));
+        // Proxy objectives only occupy a single slot, release slots this objective was moved from
+        EnumSet<DisplaySlot> released = clientView.releaseOtherSlots(packet.getObjectiveName(), packet.getPosition());
+        if (released != null) {
+            for (DisplaySlot slot : released) {
+                if (!restoreSlot(slot)) {
+                    // Backend has nothing to display there, clear the slot
+                    sendPacketSafe(new DisplayObjectivePacket(slot, ""));
                 }
             }
         }
     }
 
-    public synchronized void sendPacket(@NonNull ObjectivePacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+    /**
+     * Displays backend objective in a slot that is no longer owned by the proxy, if backend
+     * tried to display something there.
+     *
+     * @param   slot
+     *          Slot released by the proxy
+     * @return  {@code true} if backend objective was displayed, {@code false} if not
+     */
+    private boolean restoreSlot(@NonNull DisplaySlot slot) {
+        DownstreamObjective objective = downstream.getObjective(slot);
+        if (objective == null || clientView.ownsObjective(objective.getName())) return false;
+        sendPacketSafe(new DisplayObjectivePacket(slot, objective.getName()));
+        return true;
+    }
+
+    public void sendPacket(@NonNull ObjectivePacket packet) {
+        if (unsupported) return;
+        executor.execute(() -> handle(packet));
+    }
+
+    private void handle(@NonNull ObjectivePacket packet) {
+        if (frozen) return;
         switch (packet.getAction()) {
             case REGISTER -> {
                 DownstreamObjective objective = downstream.getObjective(packet.getObjectiveName());
@@ -263,9 +521,11 @@ public class VelocityScoreboard implements ProxyScoreboard {
                     sendPacketSafe(new ObjectivePacket(ObjectiveAction.UNREGISTER, packet.getObjectiveName(), null, null, null));
                 }
                 sendPacketSafe(packet);
+                clientView.registerObjective(packet.getObjectiveName());
             }
             case UNREGISTER -> {
                 sendPacketSafe(packet);
+                EnumSet<DisplaySlot> freed = clientView.unregisterObjective(packet.getObjectiveName());
 
                 // Check if backend wanted to display an objective with this name
                 DownstreamObjective objective = downstream.getObjective(packet.getObjectiveName());
@@ -273,21 +533,19 @@ public class VelocityScoreboard implements ProxyScoreboard {
                     // Backend wants this too, send the objective and scores
                     sendPacketSafe(new ObjectivePacket(ObjectiveAction.REGISTER, objective.getName(), objective.getTitle(), objective.getHealthDisplay(), objective.getNumberFormat()));
                     for (DownstreamScore score : objective.getAllScores()) {
-                        if (viewer.getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
-                            sendPacketSafe(new ScoreSetPacket(score.getHolder(), objective.getName(), score.getScore(), score.getDisplayNameHolder(), score.getNumberFormat()));
-                        } else {
-                            sendPacketSafe(new ScorePacket(ScorePacket.ScoreAction.SET, score.getHolder(), objective.getName(), score.getScore()));
-                        }
+                        sendPacketSafe(codec.scoreSet(score.getHolder(), objective.getName(), score.getScore(), score.getDisplayNameHolder(), score.getNumberFormat()));
+                    }
+                    DisplaySlot slot = objective.getDisplaySlot();
+                    if (slot != null && !clientView.ownsSlot(slot) && (freed == null || !freed.contains(slot))) {
+                        // Client forgot where this objective was displayed when it was taken over by proxy
+                        sendPacketSafe(new DisplayObjectivePacket(slot, objective.getName()));
                     }
                 }
 
-                // Check if backend wanted to display an objective in this slot
-                for (DisplaySlot slot : DisplaySlot.values()) {
-                    if (displaySlots.containsKey(slot)) continue; // This slot is occupied by proxy
-                    DownstreamObjective obj = downstream.getObjective(slot);
-                    if (obj != null) {
-                        // This slot is only used by backend, display it (may send unnecessary packets)
-                        sendPacketSafe(new DisplayObjectivePacket(slot, obj.getName()));
+                // Slots of this objective are now empty on the client, give them to backend
+                if (freed != null) {
+                    for (DisplaySlot slot : freed) {
+                        restoreSlot(slot);
                     }
                 }
             }
@@ -295,23 +553,245 @@ public class VelocityScoreboard implements ProxyScoreboard {
         }
     }
 
-    public synchronized void sendPacket(@NonNull ScorePacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        sendPacketSafe(packet);
+    /**
+     * Sends a score packet created by {@link #getCodec()}, which does not need any extra handling.
+     *
+     * @param   packet
+     *          Score packet to send
+     */
+    public void sendScorePacket(@NonNull MinecraftPacket packet) {
+        if (unsupported) return;
+        executor.execute(() -> sendPacketSafe(packet));
     }
 
-    public synchronized void sendPacket(@NonNull ScoreSetPacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
-        sendPacketSafe(packet);
+    /**
+     * Writes all queued packets to the viewer right away. This is called before a backend scoreboard
+     * packet is forwarded, so it is written after packets queued before it. Does nothing if not called
+     * from the viewer's event loop, where backend packets are handled.
+     */
+    public void writePending() {
+        if (executor.inEventLoop()) outbound.writePending();
+    }
+
+    /**
+     * Returns {@code true} if a score packet previously sent with {@link #sendScorePacketNow(MinecraftPacket)}
+     * can be modified and sent again, {@code false} if it may still be waiting to be written and a new packet
+     * must be created. Must be called from the viewer's event loop.
+     *
+     * @param   packet
+     *          Previously sent score packet
+     * @param   objectiveName
+     *          Objective of the score
+     * @param   holder
+     *          Holder of the score
+     * @return  {@code true} if the packet can be reused, {@code false} if not
+     */
+    public boolean isReusable(@NonNull MinecraftPacket packet, @NonNull String objectiveName, @NonNull String holder) {
+        return outbound.isReusable(packet, objectiveName, holder);
     }
 
-    public synchronized void sendPacket(@NonNull ScoreResetPacket packet) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+    /**
+     * Sends a score packet created by {@link #getCodec()} directly. Must be called from
+     * the viewer's event loop.
+     *
+     * @param   packet
+     *          Score packet to send
+     */
+    public void sendScorePacketNow(@NonNull MinecraftPacket packet) {
+        if (unsupported) return;
         sendPacketSafe(packet);
     }
 
-    public synchronized void sendPacket(@NonNull TeamPacket packet, @NonNull VelocityTeam affectedTeam) {
-        if (viewer.getProtocolVersion().greaterThan(MAXIMUM_SUPPORTED_VERSION)) return;
+    /**
+     * Shows a global objective to this viewer together with all of its current scores.
+     *
+     * @param   objective
+     *          Global objective to show
+     */
+    public void showGlobalObjective(@NonNull VelocityGlobalObjective objective) {
+        if (unsupported) return;
+        executor.execute(() -> {
+            if (globalObjectives.add(objective)) sendGlobalObjective(objective);
+        });
+    }
+
+    /**
+     * Removes a global objective from this viewer.
+     *
+     * @param   objective
+     *          Global objective to remove
+     */
+    public void hideGlobalObjective(@NonNull VelocityGlobalObjective objective) {
+        if (unsupported) return;
+        executor.execute(() -> {
+            if (globalObjectives.remove(objective)) {
+                handle(new ObjectivePacket(ObjectiveAction.UNREGISTER, objective.getName(), null, null, null));
+            }
+        });
+    }
+
+    /**
+     * Sends a score packet of a global objective. The packet is dropped if the objective was not shown
+     * to this viewer yet, as it will be sent with all current scores once shown.
+     *
+     * @param   objective
+     *          Global objective the score belongs to
+     * @param   packet
+     *          Score packet shared by all viewers on this protocol version
+     */
+    public void sendGlobalScore(@NonNull VelocityGlobalObjective objective, @NonNull MinecraftPacket packet) {
+        if (unsupported) return;
+        executor.execute(() -> {
+            if (globalObjectives.contains(objective)) sendPacketSafe(packet);
+        });
+    }
+
+    private void sendGlobalObjective(@NonNull VelocityGlobalObjective objective) {
+        handle(new ObjectivePacket(ObjectiveAction.REGISTER, objective.getName(), objective.getTitle(), objective.getHealthDisplay(), null));
+        handle(new DisplayObjectivePacket(objective.getDisplaySlot(), objective.getName()));
+        objective.forEachScore((holder, value) -> sendPacketSafe(codec.scoreSet(holder, objective.getName(), value, (Component) null, null)));
+    }
+
+    public void sendPacket(@NonNull TeamPacket packet, @NonNull VelocityTeam affectedTeam) {
+        if (unsupported) return;
+        // Take snapshots of entries on the calling thread, as the team may change before the packet is handled.
+        // Packets of templates are encoded in advance and their entries are never modified.
+        TeamPacket safePacket = packet.getAction() == TeamPacket.TeamAction.REGISTER && !packet.isPreEncoded() ? new TeamPacket(
+                packet.getAction(), packet.getName(), packet.getProperties(), packet.getEntries().copy()) : packet;
+        StringCollection teamEntries = packet.getAction() == TeamPacket.TeamAction.UNREGISTER ?
+                affectedTeam.getEntryCollection().copy() : null;
+        executor.execute(() -> {
+            TeamPacket scopedPacket = scopeEntries(safePacket, affectedTeam, teamEntries);
+            if (scopedPacket != null) handle(scopedPacket, teamEntries);
+        });
+    }
+
+    /**
+     * Removes entries out of viewer's interest from a packet of a nametag-only team and remembers them,
+     * so they can be added once they come into viewer's interest. Must be called from the viewer's event loop.
+     *
+     * @param   packet
+     *          Team packet to scope
+     * @param   team
+     *          Team the packet belongs to
+     * @param   affectedEntries
+     *          Entries of the team when unregistering it
+     * @return  Packet to send, {@code null} if no entries are left to add or remove
+     */
+    @Nullable
+    private TeamPacket scopeEntries(@NonNull TeamPacket packet, @NonNull VelocityTeam team, @Nullable StringCollection affectedEntries) {
+        if (!InterestManager.isEnabled()) return packet;
+        switch (packet.getAction()) {
+            case REGISTER, ADD_PLAYER -> {
+                StringCollection entries = Objects.requireNonNull(packet.getEntries());
+                if (!team.isNametagOnly()) {
+                    // Entries moved to a regular team are not scoped anymore
+                    if (!scopedEntries.isEmpty()) {
+                        for (String entry : entries.getEntries()) {
+                            if (scopedEntries.remove(entry) != null) hiddenEntries.remove(entry);
+                        }
+                    }
+                    return packet;
+                }
+                StringCollection visible = new StringCollection();
+                for (String entry : entries.getEntries()) {
+                    VelocityTeam previous = scopedEntries.put(entry, team);
+                    if (isInInterest(entry)) {
+                        hiddenEntries.remove(entry);
+                        visible.add(entry);
+                    } else if (hiddenEntries.add(entry) && previous != null) {
+                        // Client still has the entry in previous nametag-only team
+                        sendPacketSafe(TeamPacket.addOrRemovePlayer(previous.getName(), entry, false));
+                        restoreEntry(entry);
+                    }
+                }
+                if (visible.size() == entries.size()) return packet;
+                if (packet.getAction() == TeamPacket.TeamAction.ADD_PLAYER && visible.size() == 0) return null;
+                return new TeamPacket(packet.getAction(), packet.getName(), packet.getProperties(), visible);
+            }
+            case REMOVE_PLAYER -> {
+                if (!team.isNametagOnly()) return packet;
+                StringCollection entries = Objects.requireNonNull(packet.getEntries());
+                StringCollection visible = new StringCollection();
+                for (String entry : entries.getEntries()) {
+                    scopedEntries.remove(entry, team);
+                    if (!hiddenEntries.remove(entry)) visible.add(entry);
+                }
+                if (visible.size() == entries.size()) return packet;
+                if (visible.size() == 0) return null;
+                return new TeamPacket(packet.getAction(), packet.getName(), packet.getProperties(), visible);
+            }
+            case UNREGISTER -> {
+                if (team.isNametagOnly() && affectedEntries != null) {
+                    for (String entry : affectedEntries.getEntries()) {
+                        if (scopedEntries.remove(entry, team)) hiddenEntries.remove(entry);
+                    }
+                }
+                return packet;
+            }
+            default -> {
+                return packet;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if holder is in viewer's interest, which is when it is not a player
+     * on another backend server, {@code false} if not.
+     *
+     * @param   holder
+     *          Score holder or team entry
+     * @return  {@code true} if holder is in viewer's interest, {@code false} if not
+     */
+    boolean isInInterest(@NonNull String holder) {
+        return interest.isInInterest(viewer.getUsername(), holder);
+    }
+
+    /**
+     * Adds or removes below name scores and nametag-only team entries of a player
+     * who moved to another backend server.
+     *
+     * @param   holder
+     *          Name of player who moved
+     */
+    public void updateInterest(@NonNull String holder) {
+        if (unsupported) return;
+        executor.execute(() -> {
+            updateEntryInterest(holder);
+            for (VelocityObjective objective : getObjectivesByScoreHolder(holder)) {
+                objective.updateInterest(holder);
+            }
+        });
+    }
+
+    /**
+     * Adds or removes all below name scores and nametag-only team entries after the viewer
+     * moved to another backend server.
+     */
+    public void refreshInterest() {
+        if (unsupported) return;
+        executor.execute(() -> {
+            for (String entry : scopedEntries.keySet()) {
+                updateEntryInterest(entry);
+            }
+            for (VelocityObjective objective : objectives.values()) {
+                objective.updateInterest();
+            }
+        });
+    }
+
+    private void updateEntryInterest(@NonNull String entry) {
+        VelocityTeam team = scopedEntries.get(entry);
+        if (team == null) return;
+        if (isInInterest(entry)) {
+            if (hiddenEntries.remove(entry)) sendPacketSafe(TeamPacket.addOrRemovePlayer(team.getName(), entry, true));
+        } else if (hiddenEntries.add(entry)) {
+            sendPacketSafe(TeamPacket.addOrRemovePlayer(team.getName(), entry, false));
+            restoreEntry(entry);
+        }
+    }
+
+    private void handle(@NonNull TeamPacket packet, @Nullable StringCollection affectedEntries) {
         switch (packet.getAction()) {
             case REGISTER -> {
                 DownstreamTeam team = downstream.getTeam(packet.getName());
@@ -327,24 +807,16 @@ public class VelocityScoreboard implements ProxyScoreboard {
                 DownstreamTeam team = downstream.getTeam(packet.getName());
                 if (team != null) {
                     // Backend wants this too, send it
-                    sendPacketSafe(new TeamPacket(TeamPacket.TeamAction.REGISTER, team.getName(), team.getProperties(), team.getEntryCollection()));
+                    sendPacketSafe(new TeamPacket(TeamPacket.TeamAction.REGISTER, team.getName(), team.getProperties(), team.getEntryCollection().copy()));
                 }
 
                 // Check if removed players belonged to backend teams
-                StringCollection teamEntries = affectedTeam.getEntryCollection();
+                StringCollection teamEntries = Objects.requireNonNull(affectedEntries);
                 if (teamEntries.getEntry() != null) {
-                    DownstreamTeam backendTeam = downstream.getTeamByEntry(teamEntries.getEntry());
-                    if (backendTeam != null) {
-                        // Backend team has this player, add back
-                        sendPacketSafe(TeamPacket.addOrRemovePlayer(backendTeam.getName(), teamEntries.getEntry(), true));
-                    }
+                    restoreEntry(teamEntries.getEntry());
                 } else {
                     for (String entry : teamEntries.getEntries()) {
-                        DownstreamTeam backendTeam = downstream.getTeamByEntry(entry);
-                        if (backendTeam != null) {
-                            // Backend team has this player, add back
-                            sendPacketSafe(TeamPacket.addOrRemovePlayer(backendTeam.getName(), entry, true));
-                        }
+                        restoreEntry(entry);
                     }
                 }
             }
@@ -352,28 +824,50 @@ public class VelocityScoreboard implements ProxyScoreboard {
             case REMOVE_PLAYER -> {
                 sendPacketSafe(packet);
 
-                // Check if backend wanted to display this player
-                for (String removedEntry : affectedTeam.getEntryCollection().getEntries()) {
-                    DownstreamTeam backendTeam = downstream.getTeamByEntry(removedEntry);
-                    if (backendTeam != null) {
-                        // Backend team has this player, add back
-                        sendPacketSafe(TeamPacket.addOrRemovePlayer(backendTeam.getName(), removedEntry, true));
+                // Check if backend wanted to display removed players
+                StringCollection removedEntries = Objects.requireNonNull(packet.getEntries());
+                if (removedEntries.getEntry() != null) {
+                    restoreEntry(removedEntries.getEntry());
+                } else {
+                    for (String removedEntry : removedEntries.getEntries()) {
+                        restoreEntry(removedEntry);
                     }
                 }
             }
         }
     }
 
+    /**
+     * Adds entry removed from a proxy team back to backend team, if backend has it in one.
+     *
+     * @param   entry
+     *          Entry removed from a proxy team
+     */
+    private void restoreEntry(@NonNull String entry) {
+        DownstreamTeam backendTeam = downstream.getTeamByEntry(entry);
+        if (backendTeam != null) {
+            // Backend team has this player, add back
+            sendPacketSafe(TeamPacket.addOrRemovePlayer(backendTeam.getName(), entry, true));
+        }
+    }
+
     /**
      * Marks the scoreboard for freeze. While frozen, no packets will be sent.
      */
     public void freeze() {
-        frozen = true;
+        executor.execute(() -> {
+            frozen = true;
+            outbound.clear();
+            clientView.clear();
+            filter.clear();
+            scopedEntries.clear();
+            hiddenEntries.clear();
+        });
     }
 
-    private synchronized void sendPacketSafe(@NonNull MinecraftPacket packet) {
+    private void sendPacketSafe(@NonNull MinecraftPacket packet) {
         if (frozen) return;
-        viewer.getConnection().write(packet);
+        outbound.write(packet);
     }
 
     /**
@@ -20,31 +20,73 @@
 
 package com.velocitypowered.proxy.scoreboard;
 
+import com.velocitypowered.api.TextHolder;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.player.ServerConnectedEvent;
+import com.velocitypowered.api.event.player.ServerPostConnectEvent;
 import com.velocitypowered.proxy.ScoreboardEventSource;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.api.scoreboard.HealthDisplay;
+import com.velocitypowered.api.scoreboard.ProxyTeam;
+import com.velocitypowered.api.scoreboard.RelationalNametags;
 import com.velocitypowered.api.scoreboard.ScoreboardManager;
+import com.velocitypowered.api.scoreboard.ScoreboardState;
+import com.velocitypowered.api.scoreboard.ViewerRenderer;
 import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
 import com.velocitypowered.proxy.data.RawTextHolderProvider;
 import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import lombok.Getter;
 import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Implementation of ScoreboardManager, an entry point for Scoreboard API.
  */
 public class VelocityScoreboardManager extends ScoreboardManager {
 
+    /** Proxy server instance */
+    @Getter
+    @NotNull
+    private final ProxyServer server;
+
     private final Map<Player, DownstreamScoreboard> downstreamScoreboards = new ConcurrentHashMap<>();
     private final Map<Player, VelocityScoreboard> proxyScoreboards = new ConcurrentHashMap<>();
     private final Function<Player, DownstreamScoreboard> downstreamFunction;
     private final Function<Player, VelocityScoreboard> proxyFunction;
 
+    /** Objectives shown to all players */
+    private final Map<String, VelocityGlobalObjective> globalObjectives = new ConcurrentHashMap<>();
+
+    /** Tracker of backend servers players are connected to */
+    @Getter
+    @NotNull
+    private final InterestManager interestManager = new InterestManager();
+
+    /** Relational nametags by name */
+    private final Map<String, VelocityRelationalNametags> relationalNametags = new ConcurrentHashMap<>();
+
+    /** Registered placeholders and parsed templates */
+    private final PlaceholderEngine placeholderEngine = new PlaceholderEngine();
+
+    /** Timer wheel driving all animations */
+    private final AnimationScheduler animationScheduler;
+
+    /** Player ids currently in use, freed ids are reused to keep global objective arrays small */
+    private final BitSet usedPlayerIds = new BitSet();
+
     /**
      * Constructs new instance with given parameters.
      *
@@ -52,12 +94,49 @@ public class VelocityScoreboardManager extends ScoreboardManager {
      * @param plugin Scoreboard API plugin
      */
     public VelocityScoreboardManager(@NonNull ProxyServer server, @NonNull ScoreboardEventSource plugin) {
+        this.server = server;
+        this.animationScheduler = new AnimationScheduler(server, plugin);
         new RawTextHolderProvider();
         downstreamFunction = p -> new DownstreamScoreboard(plugin, p);
-        proxyFunction = p -> new VelocityScoreboard(plugin, (ConnectedPlayer) p, getBackendScoreboard(p));
+        proxyFunction = p -> {
+            VelocityScoreboard scoreboard = new VelocityScoreboard(plugin, (ConnectedPlayer) p, getBackendScoreboard(p), allocatePlayerId(), interestManager, placeholderEngine);
+            for (VelocityGlobalObjective objective : globalObjectives.values()) {
+                scoreboard.showGlobalObjective(objective);
+            }
+            return scoreboard;
+        };
+        server.getEventManager().register(plugin, ServerConnectedEvent.class, event -> {
+            if (!InterestManager.isEnabled()) return;
+            String name = event.getPlayer().getUsername();
+            interestManager.setServer(name, event.getServer().getServerInfo().getName());
+            for (VelocityScoreboard scoreboard : proxyScoreboards.values()) {
+                if (scoreboard.getViewer() == event.getPlayer()) {
+                    scoreboard.refreshInterest();
+                } else {
+                    scoreboard.updateInterest(name);
+                }
+            }
+        });
+        server.getEventManager().register(plugin, ServerPostConnectEvent.class, event -> {
+            if (event.getPreviousServer() != null) return;
+            for (VelocityRelationalNametags nametags : relationalNametags.values()) {
+                nametags.update(event.getPlayer());
+            }
+        });
         server.getEventManager().register(plugin, DisconnectEvent.class, event -> {
+            interestManager.remove(event.getPlayer().getUsername());
+            placeholderEngine.removePlayer(event.getPlayer());
             downstreamScoreboards.remove(event.getPlayer());
-            proxyScoreboards.remove(event.getPlayer());
+            VelocityScoreboard scoreboard = proxyScoreboards.remove(event.getPlayer());
+            if (scoreboard != null) {
+                for (VelocityGlobalObjective objective : globalObjectives.values()) {
+                    objective.removeScore(scoreboard.getPlayerId());
+                }
+                for (VelocityRelationalNametags nametags : relationalNametags.values()) {
+                    nametags.removePlayer(scoreboard);
+                }
+                freePlayerId(scoreboard.getPlayerId());
+            }
         });
     }
 
@@ -73,4 +152,143 @@ public class VelocityScoreboardManager extends ScoreboardManager {
         return downstreamScoreboards.computeIfAbsent(player, downstreamFunction);
     }
 
+    @Override
+    @NotNull
+    public VelocityGlobalObjective registerGlobalObjective(@NonNull String name, @NonNull TextHolder title,
+                                                           @NonNull HealthDisplay healthDisplay, @NonNull DisplaySlot displaySlot) {
+        VelocityGlobalObjective objective = new VelocityGlobalObjective(this, name, title, healthDisplay, displaySlot);
+        if (globalObjectives.putIfAbsent(name, objective) != null) {
+            throw new IllegalArgumentException("Global objective with this name already exists");
+        }
+        for (VelocityScoreboard scoreboard : proxyScoreboards.values()) {
+            scoreboard.showGlobalObjective(objective);
+        }
+        return objective;
+    }
+
+    @Override
+    public void unregisterGlobalObjective(@NonNull String name) {
+        VelocityGlobalObjective objective = globalObjectives.remove(name);
+        if (objective == null) return;
+        for (VelocityScoreboard scoreboard : proxyScoreboards.values()) {
+            scoreboard.hideGlobalObjective(objective);
+        }
+    }
+
+    @Override
+    @Nullable
+    public VelocityGlobalObjective getGlobalObjective(@NonNull String name) {
+        return globalObjectives.get(name);
+    }
+
+    @Override
+    @NotNull
+    public Collection<VelocityGlobalObjective> getGlobalObjectives() {
+        return globalObjectives.values();
+    }
+
+    @Override
+    @NotNull
+    public VelocityRelationalNametags registerRelationalNametags(@NonNull String name,
+                                                                 @NonNull List<Consumer<ProxyTeam.PropertyBuilder>> styles,
+                                                                 @NonNull RelationalNametags.Rule rule) {
+        VelocityRelationalNametags nametags = new VelocityRelationalNametags(this, name, styles, rule);
+        if (relationalNametags.putIfAbsent(name, nametags) != null) {
+            throw new IllegalArgumentException("Relational nametags with this name already exist");
+        }
+        nametags.updateAll();
+        return nametags;
+    }
+
+    @Override
+    public void unregisterRelationalNametags(@NonNull String name) {
+        VelocityRelationalNametags nametags = relationalNametags.remove(name);
+        if (nametags != null) nametags.unregister();
+    }
+
+    @Override
+    @NotNull
+    public VelocityAnimation createAnimation(@NonNull List<TextHolder> frames, int interval) {
+        VelocityAnimation animation = new VelocityAnimation(animationScheduler, frames, interval);
+        animationScheduler.add(animation);
+        return animation;
+    }
+
+    @Override
+    @NotNull
+    public VelocityPlaceholder registerPlaceholder(@NonNull String identifier, @NonNull Supplier<String> supplier) {
+        return placeholderEngine.register(new VelocityPlaceholder(identifier, supplier));
+    }
+
+    @Override
+    @NotNull
+    public VelocityPlaceholder registerPlayerPlaceholder(@NonNull String identifier, @NonNull Function<Player, String> function) {
+        return placeholderEngine.register(new VelocityPlaceholder(identifier, function));
+    }
+
+    @Override
+    public void unregisterPlaceholder(@NonNull String identifier) {
+        placeholderEngine.unregister(identifier);
+    }
+
+    @Override
+    @NotNull
+    public VelocityScoreboardTemplate createTemplate(@NonNull Consumer<ScoreboardState.Builder> consumer) {
+        VelocityScoreboardState.Builder builder = new VelocityScoreboardState.Builder();
+        consumer.accept(builder);
+        return VelocityScoreboardTemplate.create(builder.build());
+    }
+
+    @Override
+    @NotNull
+    public <T> CompletableFuture<Void> render(@NonNull Collection<? extends Player> viewers, @NonNull ViewerRenderer<T> renderer) {
+        return ParallelRenderer.render(this, viewers, renderer);
+    }
+
+    /**
+     * Returns global objective displayed in given slot, {@code null} if there is none.
+     *
+     * @param   slot
+     *          Display slot to check
+     * @return  Global objective displayed in given slot, {@code null} if none
+     */
+    @Nullable
+    public VelocityGlobalObjective getGlobalObjective(@NonNull DisplaySlot slot) {
+        for (VelocityGlobalObjective objective : globalObjectives.values()) {
+            if (objective.getDisplaySlot() == slot) return objective;
+        }
+        return null;
+    }
+
+    /**
+     * Returns proxy scoreboards of all players.
+     *
+     * @return  Proxy scoreboards of all players
+     */
+    @NotNull
+    public Collection<VelocityScoreboard> getProxyScoreboards() {
+        return proxyScoreboards.values();
+    }
+
+    /**
+     * Returns compact id of given player, or {@code -1} if the player is not connected anymore.
+     *
+     * @param   player
+     *          Player to get id of
+     * @return  Id of given player, {@code -1} if not connected
+     */
+    public int getPlayerId(@NonNull Player player) {
+        if (!player.isActive()) return -1;
+        return getProxyScoreboard(player).getPlayerId();
+    }
+
+    private synchronized int allocatePlayerId() {
+        int id = usedPlayerIds.nextClearBit(0);
+        usedPlayerIds.set(id);
+        return id;
+    }
+
+    private synchronized void freePlayerId(int id) {
+        usedPlayerIds.clear(id);
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.scoreboard.ProxyObjective;
+import com.velocitypowered.api.scoreboard.ProxyScore;
+import com.velocitypowered.api.scoreboard.ProxyTeam;
+import com.velocitypowered.api.scoreboard.ScoreboardState;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of scoreboard state, holding builders of teams, objectives and scores.
+ */
+@Getter
+public class VelocityScoreboardState implements ScoreboardState {
+
+    /** Teams by name */
+    @NotNull
+    private final Map<String, VelocityTeam.Builder> teams;
+
+    /** Objectives by name */
+    @NotNull
+    private final Map<String, VelocityObjective.Builder> objectives;
+
+    /** Scores of objectives by objective name and holder */
+    @NotNull
+    private final Map<String, Map<String, VelocityScore.Builder>> scores;
+
+    private VelocityScoreboardState(@NotNull Map<String, VelocityTeam.Builder> teams,
+                                    @NotNull Map<String, VelocityObjective.Builder> objectives,
+                                    @NotNull Map<String, Map<String, VelocityScore.Builder>> scores) {
+        this.teams = teams;
+        this.objectives = objectives;
+        this.scores = scores;
+    }
+
+    @Override
+    @NotNull
+    public Set<String> getTeamNames() {
+        return Collections.unmodifiableSet(teams.keySet());
+    }
+
+    @Override
+    @NotNull
+    public Set<String> getObjectiveNames() {
+        return Collections.unmodifiableSet(objectives.keySet());
+    }
+
+    /**
+     * Returns desired scores of objective with given name.
+     *
+     * @param   objective
+     *          Name of the objective
+     * @return  Scores of the objective by holder
+     */
+    @NotNull
+    public Map<String, VelocityScore.Builder> getScores(@NonNull String objective) {
+        return scores.getOrDefault(objective, Collections.emptyMap());
+    }
+
+    /**
+     * Builder of scoreboard state.
+     */
+    public static class Builder implements ScoreboardState.Builder {
+
+        /** Teams by name */
+        private final Map<String, VelocityTeam.Builder> teams = new LinkedHashMap<>();
+
+        /** Objectives by name */
+        private final Map<String, VelocityObjective.Builder> objectives = new LinkedHashMap<>();
+
+        /** Scores of objectives by objective name and holder */
+        private final Map<String, Map<String, VelocityScore.Builder>> scores = new LinkedHashMap<>();
+
+        @Override
+        @NotNull
+        public Builder team(@NonNull String name, @NonNull Consumer<ProxyTeam.Builder> consumer) {
+            VelocityTeam.Builder builder = new VelocityTeam.Builder(name);
+            consumer.accept(builder);
+            teams.put(name, builder);
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public Builder objective(@NonNull String name, @NonNull Consumer<ProxyObjective.Builder> consumer) {
+            VelocityObjective.Builder builder = new VelocityObjective.Builder(name);
+            consumer.accept(builder);
+            objectives.put(name, builder);
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public Builder score(@NonNull String objective, @NonNull String holder, @NonNull Consumer<ProxyScore.Builder> consumer) {
+            VelocityScore.Builder builder = new VelocityScore.Builder(holder);
+            consumer.accept(builder);
+            scores.computeIfAbsent(objective, o -> new LinkedHashMap<>()).put(holder, builder);
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public VelocityScoreboardState build() {
+            for (String objective : scores.keySet()) {
+                if (!objectives.containsKey(objective)) {
+                    throw new IllegalArgumentException("Scores were added to objective " + objective + ", which is not in the state");
+                }
+            }
+            return new VelocityScoreboardState(new LinkedHashMap<>(teams), new LinkedHashMap<>(objectives), new LinkedHashMap<>(scores));
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.api.scoreboard.NumberFormat;
+import com.velocitypowered.api.scoreboard.ScoreboardTemplate;
+import com.velocitypowered.proxy.data.StringCollection;
+import com.velocitypowered.proxy.data.TextHolderImpl;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket.ObjectiveAction;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.TeamPacket;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Implementation of scoreboard template. Texts are prepared to be serialized once for each protocol version,
+ * team entries are materialized so that they can be read from any thread and register packets are encoded
+ * once for each protocol version, when the template is first applied to a player on that version.
+ */
+public class VelocityScoreboardTemplate implements ScoreboardTemplate {
+
+    /** Teams of this template in order they were added */
+    @Getter
+    @NotNull
+    private final List<TeamData> teams;
+
+    /** Objectives of this template in order they were added */
+    @Getter
+    @NotNull
+    private final List<ObjectiveData> objectives;
+
+    /** Names of teams of this template */
+    @NotNull
+    private final Set<String> teamNames;
+
+    /** Names of objectives of this template */
+    @NotNull
+    private final Set<String> objectiveNames;
+
+    /** Register packets encoded in advance by protocol version ordinal, created when first needed */
+    private final AtomicReferenceArray<Packets> packets = new AtomicReferenceArray<>(ProtocolVersion.values().length);
+
+    private VelocityScoreboardTemplate(@NotNull List<TeamData> teams, @NotNull List<ObjectiveData> objectives) {
+        this.teams = teams;
+        this.objectives = objectives;
+        Set<String> teamNames = new LinkedHashSet<>();
+        for (TeamData team : teams) {
+            teamNames.add(team.name());
+        }
+        this.teamNames = Collections.unmodifiableSet(teamNames);
+        Set<String> objectiveNames = new LinkedHashSet<>();
+        for (ObjectiveData objective : objectives) {
+            objectiveNames.add(objective.builder().getName());
+        }
+        this.objectiveNames = Collections.unmodifiableSet(objectiveNames);
+    }
+
+    /**
+     * Validates given state and creates a template from it.
+     *
+     * @param   state
+     *          State with content of the template
+     * @return  Created template
+     * @throws  IllegalArgumentException
+     *          If an entry is in more than one team or more than one objective is in the same display slot
+     */
+    @NotNull
+    public static VelocityScoreboardTemplate create(@NonNull VelocityScoreboardState state) {
+        Map<String, String> entryTeams = new HashMap<>();
+        List<TeamData> teams = new ArrayList<>(state.getTeams().size());
+        for (VelocityTeam.Builder builder : state.getTeams().values()) {
+            StringCollection entries = builder.getEntries() != null ? new StringCollection(builder.getEntries()) : new StringCollection();
+            // Materializes the entry list as well, so that reading it does not modify the collection
+            for (String entry : entries.getEntries()) {
+                String previous = entryTeams.put(entry, builder.getName());
+                if (previous != null && !previous.equals(builder.getName())) {
+                    throw new IllegalArgumentException("Entry " + entry + " is in both team " + previous + " and team " + builder.getName());
+                }
+            }
+            TeamProperties properties = builder.resolveProperties();
+            prepare(properties.getDisplayName());
+            prepare(properties.getPrefix());
+            prepare(properties.getSuffix());
+            teams.add(new TeamData(builder.getName(), properties, entries, builder.isNametagOnly()));
+        }
+
+        Map<DisplaySlot, String> slots = new EnumMap<>(DisplaySlot.class);
+        List<ObjectiveData> objectives = new ArrayList<>(state.getObjectives().size());
+        for (VelocityObjective.Builder builder : state.getObjectives().values()) {
+            if (builder.getDisplaySlot() != null) {
+                String previous = slots.put(builder.getDisplaySlot(), builder.getName());
+                if (previous != null) {
+                    throw new IllegalArgumentException("Objectives " + previous + " and " + builder.getName() + " are both in display slot " + builder.getDisplaySlot());
+                }
+            }
+            prepare(builder.getTitle());
+            List<ScoreData> scores = new ArrayList<>();
+            for (VelocityScore.Builder score : state.getScores(builder.getName()).values()) {
+                TextHolderImpl displayText = score.getDisplayName() != null ? new TextHolderImpl(score.getDisplayName()).prepare() : null;
+                scores.add(new ScoreData(score.getHolder(), score.getScore(), displayText, score.getNumberFormat()));
+            }
+            objectives.add(new ObjectiveData(builder, scores));
+        }
+        return new VelocityScoreboardTemplate(teams, objectives);
+    }
+
+    private static void prepare(@NotNull TextHolder text) {
+        ((TextHolderImpl) text).prepare();
+    }
+
+    @Override
+    @NotNull
+    public Set<String> getTeamNames() {
+        return teamNames;
+    }
+
+    @Override
+    @NotNull
+    public Set<String> getObjectiveNames() {
+        return objectiveNames;
+    }
+
+    /**
+     * Returns register packets of teams and objectives encoded for given protocol version,
+     * encoding them if this is the first player on that version.
+     *
+     * @param   version
+     *          Protocol version of the player
+     * @return  Register packets encoded for given version
+     */
+    @NotNull
+    public Packets getPackets(@NonNull ProtocolVersion version) {
+        Packets versionPackets = packets.get(version.ordinal());
+        if (versionPackets != null) return versionPackets;
+        TeamPacket[] teamPackets = new TeamPacket[teams.size()];
+        for (int i = 0; i < teamPackets.length; i++) {
+            TeamData team = teams.get(i);
+            teamPackets[i] = new TeamPacket(TeamPacket.TeamAction.REGISTER, team.name(), team.properties(), team.entries());
+            teamPackets[i].preEncode(version);
+        }
+        ObjectivePacket[] objectivePackets = new ObjectivePacket[objectives.size()];
+        for (int i = 0; i < objectivePackets.length; i++) {
+            VelocityObjective.Builder objective = objectives.get(i).builder();
+            objectivePackets[i] = new ObjectivePacket(ObjectiveAction.REGISTER, objective.getName(), objective.getTitle(),
+                    objective.getHealthDisplay(), objective.getNumberFormat());
+            objectivePackets[i].preEncode(version);
+        }
+        // Another thread may have been faster, in which case its packets are used
+        packets.compareAndSet(version.ordinal(), null, new Packets(teamPackets, objectivePackets));
+        return packets.get(version.ordinal());
+    }
+
+    /**
+     * Team of a template. Properties and entries are shared by all teams created from the template
+     * until they are modified.
+     *
+     * @param   name
+     *          Team name
+     * @param   properties
+     *          Team properties with prepared texts
+     * @param   entries
+     *          Team entries
+     * @param   nametagOnly
+     *          Whether the team is only used for nametags
+     */
+    public record TeamData(@NotNull String name, @NotNull TeamProperties properties, @NotNull StringCollection entries,
+                           boolean nametagOnly) {}
+
+    /**
+     * Objective of a template.
+     *
+     * @param   builder
+     *          Builder of the objective with prepared title
+     * @param   scores
+     *          Scores of the objective
+     */
+    public record ObjectiveData(@NotNull VelocityObjective.Builder builder, @NotNull List<ScoreData> scores) {}
+
+    /**
+     * Score of a template objective.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   value
+     *          Score value
+     * @param   displayText
+     *          Prepared display name, {@code null} for none
+     * @param   numberFormat
+     *          Number format, {@code null} for default
+     */
+    public record ScoreData(@NotNull String holder, int value, @Nullable TextHolderImpl displayText,
+                            @Nullable NumberFormat numberFormat) {}
+
+    /**
+     * Register packets of a template encoded for one protocol version, in the same order as teams
+     * and objectives of the template.
+     *
+     * @param   teams
+     *          Register packets of teams
+     * @param   objectives
+     *          Register packets of objectives
+     */
+    public record Packets(@NotNull TeamPacket[] teams, @NotNull ObjectivePacket[] objectives) {}
+}
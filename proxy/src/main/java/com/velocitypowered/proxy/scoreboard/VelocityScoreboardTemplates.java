@@ -0,0 +1,248 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.scoreboard.ProxyObjective;
+import com.velocitypowered.api.scoreboard.ProxyTeam;
+import com.velocitypowered.api.scoreboard.ScoreboardTemplates;
+import com.velocitypowered.api.scoreboard.Sidebar;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of scoreboard templates. Each binding registers itself as a dependent of placeholders
+ * its templates contain, which render it again when their value for the viewer changes. Rendered texts
+ * are set without firing update events, the same way as frames of animations.
+ */
+public class VelocityScoreboardTemplates implements ScoreboardTemplates {
+
+    /** Scoreboard the templates are bound to */
+    @NotNull
+    private final VelocityScoreboard scoreboard;
+
+    /** Engine parsing the templates */
+    @NotNull
+    private final PlaceholderEngine engine;
+
+    /** Active bindings */
+    private final Set<TemplateBinding> bindings = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   scoreboard
+     *          Scoreboard the templates are bound to
+     * @param   engine
+     *          Engine parsing the templates
+     */
+    public VelocityScoreboardTemplates(@NonNull VelocityScoreboard scoreboard, @NonNull PlaceholderEngine engine) {
+        this.scoreboard = scoreboard;
+        this.engine = engine;
+    }
+
+    @Override
+    @NotNull
+    public Binding bindTitle(@NonNull ProxyObjective objective, @NonNull String template) {
+        VelocityObjective velocityObjective = (VelocityObjective) objective;
+        return bind(new TextBinding(engine.parse(template), velocityObjective::isRegistered, velocityObjective::setAnimatedTitle));
+    }
+
+    @Override
+    @NotNull
+    public Binding bindPrefix(@NonNull ProxyTeam team, @NonNull String template) {
+        VelocityTeam velocityTeam = (VelocityTeam) team;
+        return bind(new TextBinding(engine.parse(template), velocityTeam::isRegistered, velocityTeam::setAnimatedPrefix));
+    }
+
+    @Override
+    @NotNull
+    public Binding bindSuffix(@NonNull ProxyTeam team, @NonNull String template) {
+        VelocityTeam velocityTeam = (VelocityTeam) team;
+        return bind(new TextBinding(engine.parse(template), velocityTeam::isRegistered, velocityTeam::setAnimatedSuffix));
+    }
+
+    @Override
+    @NotNull
+    public Binding bindSidebarTitle(@NonNull String template) {
+        return bind(new TextBinding(engine.parse(template), () -> true, scoreboard.getSidebar()::setAnimatedTitle));
+    }
+
+    @Override
+    @NotNull
+    public Binding bindSidebarLines(@NonNull List<String> templates) {
+        if (templates.size() > Sidebar.MAX_LINES) throw new IllegalArgumentException("Sidebar can display at most " + Sidebar.MAX_LINES + " lines, got " + templates.size());
+        PlaceholderEngine.Template[] parsed = new PlaceholderEngine.Template[templates.size()];
+        for (int i = 0; i < parsed.length; i++) {
+            parsed[i] = engine.parse(templates.get(i));
+        }
+        return bind(new LinesBinding(parsed));
+    }
+
+    @NotNull
+    private Binding bind(@NotNull TemplateBinding binding) {
+        bindings.add(binding);
+        for (VelocityPlaceholder placeholder : binding.getDependencies()) {
+            placeholder.addDependent(scoreboard.getViewer(), binding);
+        }
+        binding.refresh(null);
+        return binding;
+    }
+
+    /**
+     * A template bound to a text of the scoreboard.
+     */
+    public abstract class TemplateBinding implements Binding {
+
+        /**
+         * Returns placeholders contained in templates of this binding.
+         *
+         * @return  Placeholders of this binding
+         */
+        @NotNull
+        protected abstract Set<VelocityPlaceholder> getDependencies();
+
+        /**
+         * Renders templates containing given placeholder again and sends them if they changed.
+         *
+         * @param   changed
+         *          Placeholder whose value changed, {@code null} to render everything
+         */
+        public abstract void refresh(@Nullable VelocityPlaceholder changed);
+
+        @Override
+        public void cancel() {
+            if (!bindings.remove(this)) return;
+            for (VelocityPlaceholder placeholder : getDependencies()) {
+                placeholder.removeDependent(scoreboard.getViewer(), this);
+            }
+        }
+    }
+
+    /**
+     * Binding of a single template to a text.
+     */
+    private class TextBinding extends TemplateBinding {
+
+        /** Bound template */
+        @NotNull
+        private final PlaceholderEngine.Template template;
+
+        /** Check whether the text still exists */
+        @NotNull
+        private final BooleanSupplier valid;
+
+        /** Function setting the text */
+        @NotNull
+        private final Consumer<TextHolder> setter;
+
+        /** Last rendered text, {@code null} if not rendered yet */
+        @Nullable
+        private String rendered;
+
+        private TextBinding(@NotNull PlaceholderEngine.Template template, @NotNull BooleanSupplier valid, @NotNull Consumer<TextHolder> setter) {
+            this.template = template;
+            this.valid = valid;
+            this.setter = setter;
+        }
+
+        @Override
+        @NotNull
+        protected Set<VelocityPlaceholder> getDependencies() {
+            return template.getDependencies();
+        }
+
+        @Override
+        public synchronized void refresh(@Nullable VelocityPlaceholder changed) {
+            if (!valid.getAsBoolean()) {
+                cancel();
+                return;
+            }
+            String text = template.render(scoreboard.getViewer());
+            if (text.equals(rendered)) return;
+            rendered = text;
+            setter.accept(template.toText(text));
+        }
+    }
+
+    /**
+     * Binding of templates to lines of the sidebar. Lines are set on the first render and then
+     * only lines containing a changed placeholder are rendered again.
+     */
+    private class LinesBinding extends TemplateBinding {
+
+        /** Templates of lines */
+        @NotNull
+        private final PlaceholderEngine.Template[] templates;
+
+        /** Placeholders contained in any line */
+        @NotNull
+        private final Set<VelocityPlaceholder> dependencies = new HashSet<>();
+
+        /** Last rendered lines, {@code null} if not rendered yet */
+        @Nullable
+        private String[] rendered;
+
+        private LinesBinding(@NotNull PlaceholderEngine.Template[] templates) {
+            this.templates = templates;
+            for (PlaceholderEngine.Template template : templates) {
+                dependencies.addAll(template.getDependencies());
+            }
+        }
+
+        @Override
+        @NotNull
+        protected Set<VelocityPlaceholder> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public synchronized void refresh(@Nullable VelocityPlaceholder changed) {
+            VelocitySidebar sidebar = scoreboard.getSidebar();
+            if (rendered == null) {
+                rendered = new String[templates.length];
+                List<TextHolder> lines = new ArrayList<>(templates.length);
+                for (int i = 0; i < templates.length; i++) {
+                    rendered[i] = templates[i].render(scoreboard.getViewer());
+                    lines.add(templates[i].toText(rendered[i]));
+                }
+                sidebar.setLines(lines);
+                return;
+            }
+            for (int i = 0; i < templates.length; i++) {
+                if (changed != null && !templates[i].getDependencies().contains(changed)) continue;
+                String text = templates[i].render(scoreboard.getViewer());
+                if (text.equals(rendered[i])) continue;
+                rendered[i] = text;
+                sidebar.setAnimatedLine(i, templates[i].toText(text));
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.TextHolder;
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.api.scoreboard.NumberFormat;
+import com.velocitypowered.api.scoreboard.Sidebar;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of sidebar. Each line has a fixed score holder and score based on its position,
+ * so changing text of a line only sends a single packet: a score with new display name on 1.20.3+,
+ * or a team update with new prefix on older versions.
+ */
+public class VelocitySidebar implements Sidebar {
+
+    /** Name of the objective displaying the sidebar */
+    private static final String OBJECTIVE_NAME = "vsa_sidebar";
+
+    /** Prefix of names of teams displaying lines for players below 1.20.3 */
+    private static final String TEAM_PREFIX = "vsa_sb_";
+
+    /** Score holders of lines, using color codes which are not rendered */
+    private static final String[] HOLDERS = new String[MAX_LINES];
+
+    static {
+        for (int i = 0; i < MAX_LINES; i++) {
+            HOLDERS[i] = "§" + Character.forDigit(i, 16);
+        }
+    }
+
+    /** Scoreboard to display the sidebar in */
+    @NotNull
+    @Getter
+    private final VelocityScoreboard scoreboard;
+
+    /** Whether lines are displayed as score display names (1.20.3+) instead of team prefixes */
+    private final boolean displayNames;
+
+    @NotNull
+    @Getter
+    private TextHolder title = TextHolder.empty();
+
+    /** Currently displayed lines */
+    private final List<TextHolder> lines = new ArrayList<>();
+
+    /** Objective displaying the sidebar, {@code null} if hidden */
+    @Nullable
+    private VelocityObjective objective;
+
+    /**
+     * Constructs new instance with given scoreboard.
+     *
+     * @param   scoreboard
+     *          Scoreboard to display the sidebar in
+     */
+    public VelocitySidebar(@NonNull VelocityScoreboard scoreboard) {
+        this.scoreboard = scoreboard;
+        displayNames = scoreboard.getViewer().getProtocolVersion().noLessThan(ProtocolVersion.MINECRAFT_1_20_3);
+    }
+
+    @Override
+    public synchronized void setTitle(@NonNull TextHolder title) {
+        this.title = title;
+        if (objective != null) objective.setTitle(title);
+    }
+
+    @Override
+    @NotNull
+    public synchronized List<TextHolder> getLines() {
+        return List.copyOf(lines);
+    }
+
+    @Override
+    public synchronized void setLines(@NonNull List<TextHolder> lines) {
+        if (lines.size() > MAX_LINES) throw new IllegalArgumentException("Sidebar can display at most " + MAX_LINES + " lines, got " + lines.size());
+        if (lines.isEmpty()) {
+            hide();
+            return;
+        }
+        if (objective == null) {
+            objective = scoreboard.registerObjective(scoreboard.objectiveBuilder(OBJECTIVE_NAME)
+                    .title(title)
+                    .displaySlot(DisplaySlot.SIDEBAR)
+                    .numberFormat(displayNames ? NumberFormat.blank() : null));
+        }
+        int oldSize = this.lines.size();
+        for (int i = 0; i < lines.size(); i++) {
+            TextHolder line = lines.get(i);
+            if (i >= oldSize) {
+                addLine(i, line);
+            } else if (!isSame(this.lines.get(i), line)) {
+                updateLine(i, line);
+            }
+        }
+        for (int i = lines.size(); i < oldSize; i++) {
+            removeLine(i);
+        }
+        this.lines.clear();
+        this.lines.addAll(lines);
+    }
+
+    /**
+     * Sets title to a frame of an animation or a rendered template without firing an event.
+     *
+     * @param   title
+     *          New title
+     */
+    synchronized void setAnimatedTitle(@NonNull TextHolder title) {
+        this.title = title;
+        if (objective != null) objective.setAnimatedTitle(title);
+    }
+
+    /**
+     * Sets line at given index to a frame of an animation or a rendered template without firing an event.
+     * Does nothing if the sidebar does not have a line at this index.
+     *
+     * @param   index
+     *          Index of the line, from the top
+     * @param   line
+     *          New text of the line
+     */
+    synchronized void setAnimatedLine(int index, @NonNull TextHolder line) {
+        if (objective == null || index < 0 || index >= lines.size() || lines.get(index) == line) return;
+        lines.set(index, line);
+        if (displayNames) {
+            VelocityScore score = (VelocityScore) objective.getScore(HOLDERS[index]);
+            if (score != null) score.setAnimatedDisplayName(line);
+        } else {
+            VelocityTeam team = scoreboard.getTeam(TEAM_PREFIX + index);
+            if (team != null) team.setAnimatedPrefix(line);
+        }
+    }
+
+    private void addLine(int index, @NotNull TextHolder line) {
+        if (displayNames) {
+            objective.setScore(HOLDERS[index], score -> score.score(MAX_LINES - index).displayName(line.getModernText()));
+        } else {
+            scoreboard.registerTeam(scoreboard.teamBuilder(TEAM_PREFIX + index).prefix(line).entry(HOLDERS[index]));
+            objective.setScore(HOLDERS[index], MAX_LINES - index);
+        }
+    }
+
+    private void updateLine(int index, @NotNull TextHolder line) {
+        if (displayNames) {
+            VelocityScore score = (VelocityScore) objective.getScore(HOLDERS[index]);
+            if (score != null) score.setDisplayName(line.getModernText());
+        } else {
+            VelocityTeam team = scoreboard.getTeam(TEAM_PREFIX + index);
+            if (team != null) team.setPrefix(line);
+        }
+    }
+
+    private void removeLine(int index) {
+        objective.removeScore(HOLDERS[index]);
+        if (!displayNames && scoreboard.getTeam(TEAM_PREFIX + index) != null) {
+            scoreboard.unregisterTeam(TEAM_PREFIX + index);
+        }
+    }
+
+    private void hide() {
+        if (objective == null) return;
+        if (!displayNames) {
+            for (int i = 0; i < lines.size(); i++) {
+                if (scoreboard.getTeam(TEAM_PREFIX + i) != null) scoreboard.unregisterTeam(TEAM_PREFIX + i);
+            }
+        }
+        if (scoreboard.getObjective(OBJECTIVE_NAME) == objective) scoreboard.unregisterObjective(OBJECTIVE_NAME);
+        objective = null;
+        lines.clear();
+    }
+
+    /**
+     * Returns {@code true} if both lines have the same text, {@code false} if not.
+     *
+     * @param   first
+     *          First line
+     * @param   second
+     *          Second line
+     * @return  {@code true} if lines have the same text, {@code false} if not
+     */
+    private static boolean isSame(@NotNull TextHolder first, @NotNull TextHolder second) {
+        return first == second || (first.getLegacyText().equals(second.getLegacyText()) &&
+                first.getModernText().equals(second.getModernText()));
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.scoreboard.TabListOrder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Implementation of tablist order. Each entry has a numeric label encoded into the name of its team,
+ * with labels ordered the same way as entries. New labels are picked in the middle of the gap between
+ * neighbors, so an insertion only registers one team. If neighbors have no gap between them, the smallest
+ * surrounding range with enough free labels is found and entries in it are spread evenly, replacing
+ * only teams of those entries.
+ */
+@RequiredArgsConstructor
+public class VelocityTabListOrder implements TabListOrder {
+
+    /** Prefix of names of teams created by this order */
+    private static final String TEAM_PREFIX = "vsa_";
+
+    /** Characters used to encode labels, in ascending order */
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    /** Amount of characters of an encoded label, keeping team names within 16 characters */
+    private static final int LABEL_LENGTH = 8;
+
+    /** Amount of available labels */
+    private static final long LABEL_SPACE = (long) Math.pow(DIGITS.length, LABEL_LENGTH);
+
+    /** Gap between labels when adding entries to the start or end, leaving room for further entries */
+    private static final long EDGE_STEP = LABEL_SPACE >> 16;
+
+    /** Order of entries by sort key and entry name */
+    private static final Comparator<Slot> ORDER = Comparator.<Slot, String>comparing(slot -> slot.sortKey).thenComparing(slot -> slot.entry);
+
+    /** Scoreboard to register teams into */
+    @NotNull
+    private final VelocityScoreboard scoreboard;
+
+    /** Entries in tablist order */
+    private final TreeSet<Slot> order = new TreeSet<>(ORDER);
+
+    /** Entries by name */
+    private final Map<String, Slot> slots = new HashMap<>();
+
+    @Override
+    @NotNull
+    public synchronized VelocityTeam setSortKey(@NonNull String entry, @NonNull String sortKey) {
+        Slot slot = slots.get(entry);
+        if (slot != null) {
+            if (slot.sortKey.equals(sortKey)) return slot.team;
+            order.remove(slot);
+            slot.sortKey = sortKey;
+        } else {
+            slot = new Slot(entry, sortKey);
+            slots.put(entry, slot);
+        }
+        order.add(slot);
+        Slot lower = order.lower(slot);
+        Slot higher = order.higher(slot);
+        long low = lower == null ? -1 : lower.label;
+        long high = higher == null ? LABEL_SPACE : higher.label;
+        if (slot.team != null && slot.label > low && slot.label < high) return slot.team; // Still between its neighbors
+        if (high - low > 1) {
+            long label;
+            if (lower != null && higher == null && high - low > EDGE_STEP * 2) {
+                label = low + EDGE_STEP;
+            } else if (lower == null && higher != null && high - low > EDGE_STEP * 2) {
+                label = high - EDGE_STEP;
+            } else {
+                label = low + (high - low) / 2;
+            }
+            assign(slot, slot.team, label);
+        } else {
+            renumber(slot);
+        }
+        return slot.team;
+    }
+
+    /**
+     * Spreads labels evenly in the smallest range around given entry which has at least as many free
+     * labels per entry as there are entries in the range. The range is doubled in each direction until it does.
+     *
+     * @param   slot
+     *          Entry without a label fitting its position
+     */
+    private void renumber(@NotNull Slot slot) {
+        // Release the team of moved entry first, as its name may be needed by a nearby entry
+        VelocityTeam previous = slot.team;
+        if (previous != null) unregister(previous);
+        slot.team = null;
+
+        Slot first = slot;
+        Slot last = slot;
+        int count = 1;
+        long low;
+        long high;
+        while (true) {
+            Slot before = order.lower(first);
+            Slot after = order.higher(last);
+            low = before == null ? -1 : before.label;
+            high = after == null ? LABEL_SPACE : after.label;
+            // Larger ranges need larger gaps, so entries added to the same place do not renumber them again soon
+            if (high - low - 1 >= (long) count * count || (before == null && after == null)) break;
+            int extend = count;
+            for (int i = 0; i < extend && (before = order.lower(first)) != null; i++) {
+                first = before;
+                count++;
+            }
+            for (int i = 0; i < extend && (after = order.higher(last)) != null; i++) {
+                last = after;
+                count++;
+            }
+        }
+
+        List<Slot> range = new ArrayList<>(order.subSet(first, true, last, true));
+        long step = (high - low) / (count + 1);
+        long[] labels = new long[count];
+        int slotIndex = 0;
+        for (int i = 0; i < count; i++) {
+            labels[i] = low + step * (i + 1);
+            if (range.get(i) == slot) slotIndex = i;
+        }
+
+        // Entries moving to lower labels are replaced from the start and entries moving to higher labels
+        // from the end, so a new team name is never taken by a team which was not replaced yet
+        for (int i = 0; i < count; i++) {
+            Slot current = range.get(i);
+            if (current != slot && labels[i] < current.label) assign(current, current.team, labels[i]);
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            Slot current = range.get(i);
+            if (current != slot && labels[i] > current.label) assign(current, current.team, labels[i]);
+        }
+        assign(slot, previous, labels[slotIndex]);
+    }
+
+    /**
+     * Gives entry a new label by registering a team with the name of the label, copying properties
+     * of the previous team of the entry.
+     *
+     * @param   slot
+     *          Entry to give label to
+     * @param   previous
+     *          Previous team of the entry to copy properties from
+     * @param   label
+     *          New label of the entry
+     */
+    private void assign(@NotNull Slot slot, @Nullable VelocityTeam previous, long label) {
+        VelocityTeam.Builder builder = scoreboard.teamBuilder(teamName(label));
+        if (previous != null) {
+            builder.displayName(previous.getDisplayName())
+                    .prefix(previous.getPrefix())
+                    .suffix(previous.getSuffix())
+                    .nameVisibility(previous.getNameVisibility())
+                    .collisionRule(previous.getCollisionRule())
+                    .color(previous.getColor())
+                    .allowFriendlyFire(previous.isAllowFriendlyFire())
+                    .canSeeFriendlyInvisibles(previous.isCanSeeFriendlyInvisibles())
+                    .nametagOnly(previous.isNametagOnly());
+        }
+        builder.entry(slot.entry);
+        VelocityTeam team = scoreboard.registerTeam(builder);
+        if (previous != null && previous == slot.team) unregister(previous);
+        slot.team = team;
+        slot.label = label;
+    }
+
+    private void unregister(@NotNull VelocityTeam team) {
+        // Team may have been unregistered manually
+        if (scoreboard.getTeam(team.getName()) == team) scoreboard.unregisterTeam(team.getName());
+    }
+
+    /**
+     * Encodes label into a team name. Labels are encoded with a fixed length,
+     * so team names are ordered the same way as labels.
+     *
+     * @param   label
+     *          Label to encode
+     * @return  Team name with given label
+     */
+    @NotNull
+    private static String teamName(long label) {
+        char[] chars = new char[TEAM_PREFIX.length() + LABEL_LENGTH];
+        TEAM_PREFIX.getChars(0, TEAM_PREFIX.length(), chars, 0);
+        for (int i = chars.length - 1; i >= TEAM_PREFIX.length(); i--) {
+            chars[i] = DIGITS[(int) (label % DIGITS.length)];
+            label /= DIGITS.length;
+        }
+        return new String(chars);
+    }
+
+    @Override
+    @Nullable
+    public synchronized String getSortKey(@NonNull String entry) {
+        Slot slot = slots.get(entry);
+        return slot == null ? null : slot.sortKey;
+    }
+
+    @Override
+    @Nullable
+    public synchronized VelocityTeam getTeam(@NonNull String entry) {
+        Slot slot = slots.get(entry);
+        return slot == null ? null : slot.team;
+    }
+
+    @Override
+    public synchronized void remove(@NonNull String entry) {
+        Slot slot = slots.remove(entry);
+        if (slot == null) return;
+        order.remove(slot);
+        if (slot.team != null) unregister(slot.team);
+    }
+
+    @Override
+    @NotNull
+    public synchronized List<String> getEntries() {
+        List<String> entries = new ArrayList<>(order.size());
+        for (Slot slot : order) {
+            entries.add(slot.entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Position of an entry in the order.
+     */
+    private static class Slot {
+
+        /** Entry in the team */
+        @NotNull
+        private final String entry;
+
+        /** Sort key of the entry */
+        @NotNull
+        private String sortKey;
+
+        /** Label encoded into team name, {@code -1} if not assigned yet */
+        private long label = -1;
+
+        /** Team of the entry, {@code null} if not assigned yet */
+        @Nullable
+        private VelocityTeam team;
+
+        private Slot(@NotNull String entry, @NotNull String sortKey) {
+            this.entry = entry;
+            this.sortKey = sortKey;
+        }
+    }
+}
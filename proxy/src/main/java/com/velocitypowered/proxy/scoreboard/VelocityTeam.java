@@ -46,10 +46,39 @@ public class VelocityTeam implements ProxyTeam {
 
     @NonNull private final VelocityScoreboard scoreboard;
     @NonNull private final String name;
-    @NonNull private final TeamProperties properties;
-    @NonNull private final StringCollection entries;
+    @NonNull private TeamProperties properties;
+    @NonNull private StringCollection entries;
+    private final boolean nametagOnly;
     private boolean registered = true;
 
+    /** Whether properties and entries are shared with other teams created from the same template and must be copied before changing */
+    @Getter(AccessLevel.NONE)
+    private boolean shared;
+
+    /**
+     * Creates a team using properties and entries of a template, which are shared with other teams
+     * created from it until this team is modified. No event is fired.
+     *
+     * @param   scoreboard
+     *          Scoreboard to create the team on
+     * @param   name
+     *          Team name
+     * @param   properties
+     *          Shared properties of the team
+     * @param   entries
+     *          Shared entries of the team
+     * @param   nametagOnly
+     *          Whether the team is only used for nametags
+     * @return  Created team
+     */
+    @NotNull
+    static VelocityTeam shared(@NonNull VelocityScoreboard scoreboard, @NonNull String name, @NonNull TeamProperties properties,
+                               @NonNull StringCollection entries, boolean nametagOnly) {
+        VelocityTeam team = new VelocityTeam(scoreboard, name, properties, entries, nametagOnly);
+        team.shared = true;
+        return team;
+    }
+
     @Override
     @NotNull
     public TextHolder getDisplayName() {
@@ -170,6 +199,32 @@ public class VelocityTeam implements ProxyTeam {
         tryUpdate(builder);
     }
 
+    /**
+     * Sets prefix to a frame of an animation or a rendered template without firing an event. Does nothing if
+     * this team was unregistered.
+     *
+     * @param   prefix
+     *          New prefix
+     */
+    void setAnimatedPrefix(@NonNull TextHolder prefix) {
+        if (!registered || properties.getPrefix() == prefix) return;
+        copyOnWrite();
+        if (properties.setPrefix(prefix)) sendUpdate();
+    }
+
+    /**
+     * Sets suffix to a frame of an animation or a rendered template without firing an event. Does nothing if
+     * this team was unregistered.
+     *
+     * @param   suffix
+     *          New suffix
+     */
+    void setAnimatedSuffix(@NonNull TextHolder suffix) {
+        if (!registered || properties.getSuffix() == suffix) return;
+        copyOnWrite();
+        if (properties.setSuffix(suffix)) sendUpdate();
+    }
+
     private void tryUpdate(@NonNull PropertyBuilder builder) {
         checkState();
         TeamEvent.Update event = new TeamEvent.Update(
@@ -187,6 +242,7 @@ public class VelocityTeam implements ProxyTeam {
         );
         scoreboard.getEventSource().fireEvent(event);
 
+        copyOnWrite();
         boolean changed = false;
         changed |= properties.setDisplayName(event.getDisplayName());
         changed |= properties.setPrefix(event.getPrefix());
@@ -201,45 +257,137 @@ public class VelocityTeam implements ProxyTeam {
         }
     }
 
+    /**
+     * Updates properties of this team to match given builder, using the same defaults as when registering.
+     * Only properties which are not equal to current ones are changed, in a single update.
+     *
+     * @param   desired
+     *          Builder with desired properties
+     */
+    void reconcileProperties(@NonNull Builder desired) {
+        checkState();
+        TeamProperties resolved = desired.resolveProperties();
+        PropertyBuilder builder = new PropertyBuilder();
+        boolean changed = false;
+        if (!properties.getDisplayName().equals(resolved.getDisplayName())) {
+            builder.displayName = resolved.getDisplayName();
+            changed = true;
+        }
+        if (!properties.getPrefix().equals(resolved.getPrefix())) {
+            builder.prefix = resolved.getPrefix();
+            changed = true;
+        }
+        if (!properties.getSuffix().equals(resolved.getSuffix())) {
+            builder.suffix = resolved.getSuffix();
+            changed = true;
+        }
+        if (properties.getNameVisibility() != resolved.getNameVisibility()) {
+            builder.nameVisibility = resolved.getNameVisibility();
+            changed = true;
+        }
+        if (properties.getCollisionRule() != resolved.getCollisionRule()) {
+            builder.collisionRule = resolved.getCollisionRule();
+            changed = true;
+        }
+        if (properties.getColor() != resolved.getColor()) {
+            builder.color = resolved.getColor();
+            changed = true;
+        }
+        if (properties.isAllowFriendlyFire() != resolved.isAllowFriendlyFire()) {
+            builder.allowFriendlyFire = resolved.isAllowFriendlyFire();
+            changed = true;
+        }
+        if (properties.isCanSeeFriendlyInvisibles() != resolved.isCanSeeFriendlyInvisibles()) {
+            builder.canSeeFriendlyInvisibles = resolved.isCanSeeFriendlyInvisibles();
+            changed = true;
+        }
+        if (changed) tryUpdate(builder);
+    }
+
+    /**
+     * Removes all entries of this team which are not in given collection, in a single packet.
+     *
+     * @param   desired
+     *          Entries which should stay
+     */
+    void retainEntries(@NonNull Collection<String> desired) {
+        checkState();
+        List<String> removed = new ArrayList<>();
+        for (String entry : entries.getEntries()) {
+            if (!desired.contains(entry)) removed.add(entry);
+        }
+        if (!removed.isEmpty()) removeEntries(removed);
+    }
+
     @Override
     public void addEntry(@NonNull String entry) {
+        addEntries(Collections.singleton(entry));
+    }
+
+    @Override
+    public void removeEntry(@NonNull String entry) throws IllegalArgumentException {
+        removeEntries(Collections.singleton(entry));
+    }
+
+    @Override
+    public void addEntries(@NonNull Collection<String> entries) {
         checkState();
-        TeamEvent.AddPlayers event = new TeamEvent.AddPlayers(scoreboard.getViewer(), true, name, Collections.singleton(entry));
+        TeamEvent.AddPlayers event = new TeamEvent.AddPlayers(scoreboard.getViewer(), true, name, entries);
         scoreboard.getEventSource().fireEvent(event);
+        copyOnWrite();
+        StringCollection added = new StringCollection();
         for (String entry0 : event.getEntries()) {
-            if (entries.contains(entry0)) continue;
+            if (this.entries.contains(entry0)) continue;
             VelocityTeam oldTeam = scoreboard.addEntryToTeam(entry0, this);
             if (oldTeam != null) {
-                oldTeam.entries.remove(entry0);
+                oldTeam.removeEntrySilent(entry0);
             }
-            entries.add(entry0);
-            // Maybe merge packets into one?
-            scoreboard.sendPacket(TeamPacket.addOrRemovePlayer(name, entry0, true), this);
+            this.entries.add(entry0);
+            added.add(entry0);
         }
+        if (added.size() > 0) scoreboard.sendPacket(TeamPacket.addOrRemovePlayers(name, added, true), this);
     }
 
     @Override
-    public void removeEntry(@NonNull String entry) throws IllegalArgumentException {
+    public void removeEntries(@NonNull Collection<String> entries) throws IllegalArgumentException {
         checkState();
-        TeamEvent.RemovePlayers event = new TeamEvent.RemovePlayers(scoreboard.getViewer(), true, name,  Collections.singleton(entry));
+        TeamEvent.RemovePlayers event = new TeamEvent.RemovePlayers(scoreboard.getViewer(), true, name, entries);
         scoreboard.getEventSource().fireEvent(event);
         for (String entry0 : event.getEntries()) {
-            if (entries.remove(entry0)) {
-                scoreboard.removeEntryFromTeam(entry0, this);
-                // Maybe merge packets into one?
-                scoreboard.sendPacket(TeamPacket.addOrRemovePlayer(name, entry0, false), this);
-            } else {
+            if (!this.entries.contains(entry0)) {
                 // What if it was modified in event and caller is innocent?
                 throw new IllegalArgumentException("Entry " + entry0 + " is not in team " + name + ", cannot remove");
             }
         }
+        copyOnWrite();
+        StringCollection removed = new StringCollection();
+        for (String entry0 : event.getEntries()) {
+            if (this.entries.remove(entry0)) {
+                scoreboard.removeEntryFromTeam(entry0, this);
+                removed.add(entry0);
+            }
+        }
+        if (removed.size() > 0) scoreboard.sendPacket(TeamPacket.addOrRemovePlayers(name, removed, false), this);
     }
 
     @ApiStatus.Internal
     public void removeEntrySilent(@NonNull String entry) {
+        if (!entries.contains(entry)) return;
+        copyOnWrite();
         entries.remove(entry);
     }
 
+    /**
+     * Replaces properties and entries shared with other teams by own copies, so that changing them
+     * does not affect the other teams. Does nothing if they are not shared anymore.
+     */
+    private void copyOnWrite() {
+        if (!shared) return;
+        properties = properties.copy();
+        entries = entries.copy();
+        shared = false;
+    }
+
     public void sendRegister() {
         scoreboard.sendPacket(new TeamPacket(TeamPacket.TeamAction.REGISTER, name, properties, entries), this);
     }
@@ -283,6 +431,7 @@ public class VelocityTeam implements ProxyTeam {
         map.put("AllowFriendlyFire", properties.isAllowFriendlyFire());
         map.put("CanSeeFriendlyInvisibles", properties.isCanSeeFriendlyInvisibles());
         map.put("Entries", entries);
+        map.put("NametagOnly", nametagOnly);
         return map;
     }
 
@@ -360,6 +509,7 @@ public class VelocityTeam implements ProxyTeam {
 
         @NonNull private final String name;
         @Nullable private Collection<String> entries;
+        private boolean nametagOnly;
 
         @NotNull
         @Override
@@ -417,6 +567,13 @@ public class VelocityTeam implements ProxyTeam {
             return this;
         }
 
+        @NotNull
+        @Override
+        public Builder nametagOnly(boolean nametagOnly) {
+            this.nametagOnly = nametagOnly;
+            return this;
+        }
+
         @NotNull
         @Override
         public Builder entry(@NonNull String entry) {
@@ -431,6 +588,25 @@ public class VelocityTeam implements ProxyTeam {
             return this;
         }
 
+        /**
+         * Returns properties set in this builder, with default values for those which were not set.
+         *
+         * @return  Properties of this builder
+         */
+        @NotNull
+        public TeamProperties resolveProperties() {
+            return new TeamProperties(
+                    displayName != null ? displayName : TextHolder.of(name),
+                    prefix != null ? prefix : TextHolder.empty(),
+                    suffix != null ? suffix : TextHolder.empty(),
+                    nameVisibility != null ? nameVisibility : NameVisibility.ALWAYS,
+                    collisionRule != null ? collisionRule : CollisionRule.ALWAYS,
+                    color != null ? color : TeamColor.RESET,
+                    allowFriendlyFire != null && allowFriendlyFire,
+                    canSeeFriendlyInvisibles != null && canSeeFriendlyInvisibles
+            );
+        }
+
         /**
          * Fires register event, applies modifications, creates the team and returns it.
          *
@@ -470,7 +646,8 @@ public class VelocityTeam implements ProxyTeam {
                             registerEvent.isAllowFriendlyFire(),
                             registerEvent.isCanSeeFriendlyInvisibles()
                     ),
-                    new StringCollection(registerEvent.getEntries())
+                    new StringCollection(registerEvent.getEntries()),
+                    nametagOnly
             );
         }
     }
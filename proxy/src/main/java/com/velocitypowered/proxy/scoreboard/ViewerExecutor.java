@@ -0,0 +1,132 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.proxy.data.LoggerManager;
+import io.netty.channel.EventLoop;
+import io.netty.util.internal.PlatformDependent;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.event.Level;
+
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor confining scoreboard state of a single viewer to the viewer's event loop.
+ * Tasks submitted from the event loop run immediately if nothing is queued, tasks
+ * submitted from other threads are queued into a lock-free multi-producer queue and
+ * run by a single drain task on the event loop, in order of submission.
+ */
+public class ViewerExecutor implements Executor {
+
+    /** Maximum amount of tasks to run in a single drain before yielding to other event loop tasks */
+    private static final int MAX_TASKS_PER_DRAIN = 1024;
+
+    /** Event loop to run tasks on */
+    @NotNull
+    private final EventLoop eventLoop;
+
+    /** Tasks waiting to be run */
+    private final Queue<Runnable> mailbox = PlatformDependent.newMpscQueue();
+
+    /** Flag tracking whether drain task is scheduled */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /** Amount of batches in progress, the drain task is not scheduled while positive */
+    private final AtomicInteger batches = new AtomicInteger();
+
+    /** Task draining the mailbox, allocated once */
+    private final Runnable drainTask = this::drain;
+
+    /**
+     * Constructs new instance with given event loop.
+     *
+     * @param   eventLoop
+     *          Event loop to run tasks on
+     */
+    public ViewerExecutor(@NonNull EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * Returns {@code true} if the current thread is the event loop of this executor, {@code false} if not.
+     *
+     * @return  {@code true} if called from the event loop, {@code false} if not
+     */
+    public boolean inEventLoop() {
+        return eventLoop.inEventLoop();
+    }
+
+    @Override
+    public void execute(@NonNull Runnable task) {
+        if (eventLoop.inEventLoop() && mailbox.isEmpty()) {
+            task.run();
+            return;
+        }
+        mailbox.offer(task);
+        if (batches.get() == 0 && scheduled.compareAndSet(false, true)) {
+            eventLoop.execute(drainTask);
+        }
+    }
+
+    /**
+     * Runs given action on the calling thread while holding back the drain task, so tasks submitted
+     * by the action are run together in a single drain once it finishes. A drain which was already
+     * scheduled before may still run some of them earlier.
+     *
+     * @param   action
+     *          Action submitting tasks
+     */
+    public void batch(@NonNull Runnable action) {
+        batches.incrementAndGet();
+        try {
+            action.run();
+        } finally {
+            if (batches.decrementAndGet() == 0 && !mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+                eventLoop.execute(drainTask);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < MAX_TASKS_PER_DRAIN; i++) {
+                Runnable task = mailbox.poll();
+                if (task == null) break;
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    // A failing task must not prevent the rest of the viewer's tasks from running
+                    LoggerManager.log(Level.ERROR, "An error occurred while running a scoreboard task", t);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            // Tasks may have been added after the last poll, or the limit was reached
+            if (!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+                eventLoop.execute(drainTask);
+            }
+        }
+    }
+}
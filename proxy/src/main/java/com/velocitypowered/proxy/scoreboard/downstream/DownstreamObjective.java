@@ -101,9 +101,17 @@ public class DownstreamObjective implements Objective {
      *          Score holder's display name (1.20.3+)
      * @param   numberFormat
      *          Number formatter for score (1.20.3+)
+     * @return  {@code true} if holder did not have a score in this objective before, {@code false} if it did
      */
-    public void setScore(@NonNull String holder, int value, @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
-        scores.computeIfAbsent(holder, DownstreamScore::new).update(value, displayName, numberFormat);
+    public boolean setScore(@NonNull String holder, int value, @Nullable ComponentHolder displayName, @Nullable NumberFormat numberFormat) {
+        DownstreamScore score = scores.get(holder);
+        boolean added = score == null;
+        if (added) {
+            score = new DownstreamScore(holder);
+            scores.put(holder, score);
+        }
+        score.update(value, displayName, numberFormat);
+        return added;
     }
 
     /**
@@ -111,9 +119,10 @@ public class DownstreamObjective implements Objective {
      *
      * @param   holder
      *          Score holder to remove
+     * @return  {@code true} if score was present and removed, {@code false} if not
      */
-    public void removeScore(@NonNull String holder) {
-        scores.remove(holder);
+    public boolean removeScore(@NonNull String holder) {
+        return scores.remove(holder) != null;
     }
 
     /**
@@ -57,6 +57,12 @@ public class DownstreamScoreboard implements Scoreboard {
     /** Map of entries and teams they belong to */
     private final Map<String, DownstreamTeam> teamEntries = new ConcurrentHashMap<>();
 
+    /**
+     * Map of score holders and objectives they have a score in, so that resetting a holder in all
+     * objectives does not need to check every objective. Only accessed when handling backend packets.
+     */
+    private final Map<String, Set<DownstreamObjective>> holderObjectives = new HashMap<>();
+
     /** Viewer this scoreboard view belongs to */
     @NotNull
     private final Player viewer;
@@ -99,6 +105,9 @@ public class DownstreamScoreboard implements Scoreboard {
                     return true;
                 }
                 displaySlots.entrySet().removeIf(entry -> entry.getValue().getName().equals(packet.getObjectiveName()));
+                for (DownstreamScore score : removed.getAllScores()) {
+                    removeFromIndex(score.getHolder(), removed);
+                }
                 eventSource.fireEvent(new ObjectiveEvent.Unregister(
                         viewer,
                         false,
@@ -192,7 +201,9 @@ public class DownstreamScoreboard implements Scoreboard {
             LoggerManager.Warn.unknownObjectiveSetScore(viewer, objectiveName, holder);
             return true;
         } else {
-            objective.setScore(holder, value, displayName, numberFormat);
+            if (objective.setScore(holder, value, displayName, numberFormat)) {
+                holderObjectives.computeIfAbsent(holder, k -> new HashSet<>()).add(objective);
+            }
             eventSource.fireEvent(new ScoreEvent.Set(
                     viewer,
                     false,
@@ -208,7 +219,9 @@ public class DownstreamScoreboard implements Scoreboard {
 
     private boolean handleReset(@Nullable String objectiveName, @NonNull String holder) {
         if (objectiveName == null || objectiveName.isEmpty()) {
-            for (DownstreamObjective objective : objectives.values()) {
+            Set<DownstreamObjective> holderObjectives = this.holderObjectives.remove(holder);
+            if (holderObjectives == null) return false; // Holder has no scores
+            for (DownstreamObjective objective : holderObjectives) {
                 objective.removeScore(holder);
                 eventSource.fireEvent(new ScoreEvent.Reset(
                         viewer,
@@ -223,7 +236,7 @@ public class DownstreamScoreboard implements Scoreboard {
                 LoggerManager.Warn.unknownObjectiveResetScore(viewer, objectiveName, holder);
                 return true;
             } else {
-                objective.removeScore(holder);
+                if (objective.removeScore(holder)) removeFromIndex(holder, objective);
                 eventSource.fireEvent(new ScoreEvent.Reset(
                         viewer,
                         false,
@@ -397,6 +410,22 @@ public class DownstreamScoreboard implements Scoreboard {
         teams.clear();
         displaySlots.clear();
         teamEntries.clear();
+        holderObjectives.clear();
+    }
+
+    /**
+     * Removes objective from objectives of a score holder.
+     *
+     * @param   holder
+     *          Score holder
+     * @param   objective
+     *          Objective the holder no longer has a score in
+     */
+    private void removeFromIndex(@NonNull String holder, @NonNull DownstreamObjective objective) {
+        Set<DownstreamObjective> holderObjectives = this.holderObjectives.get(holder);
+        if (holderObjectives != null && holderObjectives.remove(objective) && holderObjectives.isEmpty()) {
+            this.holderObjectives.remove(holder);
+        }
     }
 
     /**
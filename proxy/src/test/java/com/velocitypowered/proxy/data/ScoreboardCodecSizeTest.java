@@ -0,0 +1,196 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.data;
+
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.scoreboard.CollisionRule;
+import com.velocitypowered.api.scoreboard.HealthDisplay;
+import com.velocitypowered.api.scoreboard.NameVisibility;
+import com.velocitypowered.api.scoreboard.NumberFormat;
+import com.velocitypowered.api.scoreboard.TeamColor;
+import com.velocitypowered.proxy.protocol.MinecraftPacket;
+import com.velocitypowered.proxy.protocol.ProtocolUtils;
+import com.velocitypowered.proxy.protocol.packet.chat.ComponentHolder;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ObjectivePacket.ObjectiveAction;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreSetPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.TeamPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.TeamPacket.TeamAction;
+import com.velocitypowered.proxy.scoreboard.TeamProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that encoded size hints of scoreboard packets are exact, so packets are encoded into
+ * a buffer of the right size without it ever being reallocated.
+ */
+class ScoreboardCodecSizeTest {
+
+    /** Amount of entries in the registered team */
+    private static final int ENTRIES = 1000;
+
+    /** Initial capacity of buffers allocated by netty when no size is given */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /** Text with formatting, nested children and characters taking more than one byte */
+    private static final Component FORMATTED = Component.text("Team ", NamedTextColor.GOLD)
+            .decorate(TextDecoration.BOLD)
+            .append(Component.text("é中😀", NamedTextColor.AQUA))
+            .append(Component.translatable("chat.type.text", Component.text("nested")));
+
+    @Test
+    void teamRegistrationSizeIsExact() {
+        TeamPacket packet = register("team", ENTRIES);
+        for (ProtocolVersion version : ProtocolVersion.SUPPORTED_VERSIONS) {
+            assertNoReallocation(packet, version);
+        }
+    }
+
+    @Test
+    void componentSizesAreExact() {
+        ObjectivePacket objective = new ObjectivePacket(ObjectiveAction.REGISTER, "objective",
+                new TextHolderImpl(FORMATTED), HealthDisplay.INTEGER, NumberFormat.fixed(FORMATTED));
+        for (ProtocolVersion version : ProtocolVersion.SUPPORTED_VERSIONS) {
+            assertNoReallocation(objective, version);
+            if (version.noLessThan(ProtocolVersion.MINECRAFT_1_20_3)) {
+                ScoreSetPacket score = new ScoreSetPacket("holder", "objective", 42,
+                        new ComponentHolder(version, FORMATTED), deserializedFormat(version));
+                assertNoReallocation(score, version);
+            }
+        }
+    }
+
+    @Test
+    void sizeHintPreventsReallocation() {
+        TeamPacket packet = register("team", ENTRIES);
+        for (ProtocolVersion version : new ProtocolVersion[] {
+                ProtocolVersion.MINECRAFT_1_8, ProtocolVersion.MINECRAFT_1_13, ProtocolVersion.MAXIMUM_VERSION}) {
+            int hint = packet.encodeSizeHint(ProtocolUtils.Direction.CLIENTBOUND, version);
+            assertTrue(countReallocations(packet, version, DEFAULT_CAPACITY) > 0,
+                    () -> "Registration fits default buffer for " + version + ", test does not compare anything");
+            assertEquals(0, countReallocations(packet, version, hint), () -> packet + " reallocated hinted buffer for " + version);
+        }
+    }
+
+    /**
+     * Encodes packet into a pooled direct buffer sized by its hint, whose maximum capacity is also the
+     * hint, so it cannot grow, and verifies the hint matches the amount of bytes written.
+     *
+     * @param   packet
+     *          Packet to encode
+     * @param   version
+     *          Protocol version to encode packet for
+     */
+    private static void assertNoReallocation(MinecraftPacket packet, ProtocolVersion version) {
+        int hint = packet.encodeSizeHint(ProtocolUtils.Direction.CLIENTBOUND, version);
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer(hint, hint);
+        try {
+            packet.encode(buf, ProtocolUtils.Direction.CLIENTBOUND, version);
+            assertEquals(hint, buf.capacity(), () -> packet + " reallocated buffer for " + version);
+            assertEquals(hint, buf.writerIndex(), () -> "Size hint of " + packet + " is not exact for " + version);
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * Encodes packet into a growable buffer of given initial capacity and returns how many times
+     * the buffer had to be reallocated to fit it.
+     *
+     * @param   packet
+     *          Packet to encode
+     * @param   version
+     *          Protocol version to encode packet for
+     * @param   initialCapacity
+     *          Initial capacity of the buffer
+     * @return  Amount of reallocations
+     */
+    private static int countReallocations(MinecraftPacket packet, ProtocolVersion version, int initialCapacity) {
+        CountingBuffer buf = new CountingBuffer(initialCapacity);
+        try {
+            packet.encode(buf, ProtocolUtils.Direction.CLIENTBOUND, version);
+            return buf.reallocations;
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * Returns fixed number format as if it was received from a backend server, which keeps its
+     * serialized form instead of the component.
+     *
+     * @param   version
+     *          Protocol version to deserialize format for
+     * @return  Deserialized fixed number format
+     */
+    private static NumberFormat deserializedFormat(ProtocolVersion version) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            NumberFormatEncoder.write(buf, version, NumberFormat.fixed(FORMATTED));
+            return NumberFormatEncoder.read(buf, version);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static TeamPacket register(String name, int entryCount) {
+        List<String> entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            entries.add("Player" + i);
+        }
+        TeamProperties properties = new TeamProperties(new TextHolderImpl(FORMATTED),
+                new TextHolderImpl("§c[Prefix] "), new TextHolderImpl(Component.text(" suffix", NamedTextColor.GRAY)),
+                NameVisibility.ALWAYS, CollisionRule.NEVER, TeamColor.RED, true, false);
+        return new TeamPacket(TeamAction.REGISTER, name, properties, new StringCollection(entries));
+    }
+
+    /**
+     * Heap buffer counting how many times its capacity was changed.
+     */
+    private static class CountingBuffer extends UnpooledHeapByteBuf {
+
+        /** Amount of capacity changes */
+        private int reallocations;
+
+        private CountingBuffer(int initialCapacity) {
+            super(UnpooledByteBufAllocator.DEFAULT, initialCapacity, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public ByteBuf capacity(int newCapacity) {
+            reallocations++;
+            return super.capacity(newCapacity);
+        }
+    }
+}
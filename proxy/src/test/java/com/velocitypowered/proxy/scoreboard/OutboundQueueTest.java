@@ -0,0 +1,108 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.proxy.connection.MinecraftConnection;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreResetPacket;
+import com.velocitypowered.proxy.protocol.packet.scoreboard.ScoreSetPacket;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for coalescing and delaying of pending packets in {@link OutboundQueue}.
+ */
+class OutboundQueueTest {
+
+    private MinecraftConnection connection;
+    private OutboundQueue queue;
+    private Runnable drainTask;
+
+    @BeforeEach
+    void setUp() {
+        EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> {
+            drainTask = invocation.getArgument(0);
+            return null;
+        }).when(eventLoop).execute(any(Runnable.class));
+        Channel channel = mock(Channel.class);
+        when(channel.isWritable()).thenReturn(true);
+        connection = mock(MinecraftConnection.class);
+        when(connection.eventLoop()).thenReturn(eventLoop);
+        when(connection.getChannel()).thenReturn(channel);
+        ConnectedPlayer viewer = mock(ConnectedPlayer.class);
+        when(viewer.getConnection()).thenReturn(connection);
+        queue = new OutboundQueue(viewer, new RedundantPacketFilter(ProtocolVersion.MAXIMUM_VERSION));
+    }
+
+    @Test
+    void pendingScoreIsReplaced() {
+        ScoreSetPacket last = null;
+        for (int value = 0; value < 10; value++) {
+            last = new ScoreSetPacket("holder", "objective", value, null, null);
+            queue.write(last);
+        }
+        drain();
+        verify(connection, times(1)).delayedWrite(any());
+        verify(connection).delayedWrite(last);
+    }
+
+    @Test
+    void urgentPacketDoesNotWriteDelayedScores() throws ReflectiveOperationException {
+        setOverloaded(true);
+        try {
+            ScoreSetPacket other = new ScoreSetPacket("other", "objective", 1, null, null);
+            ScoreSetPacket before = new ScoreSetPacket("holder", "objective", 1, null, null);
+            ScoreResetPacket reset = new ScoreResetPacket("holder", "objective");
+            queue.write(other);
+            queue.write(before);
+            queue.write(reset);
+            drain();
+            verify(connection).delayedWrite(reset);
+            verify(connection, never()).delayedWrite(other);
+            verify(connection, never()).delayedWrite(before);
+        } finally {
+            setOverloaded(false);
+        }
+    }
+
+    private static void setOverloaded(boolean overloaded) throws ReflectiveOperationException {
+        Field field = OverloadController.class.getDeclaredField("overloaded");
+        field.setAccessible(true);
+        field.setBoolean(null, overloaded);
+    }
+
+    private void drain() {
+        assertNotNull(drainTask, "Drain was not scheduled");
+        Runnable task = drainTask;
+        drainTask = null;
+        task.run();
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of VelocityScoreboardAPI, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) NEZNAMY <n.e.z.n.a.m.y@azet.sk>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.velocitypowered.proxy.scoreboard;
+
+import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.scoreboard.DisplaySlot;
+import com.velocitypowered.proxy.ScoreboardEventSource;
+import com.velocitypowered.proxy.connection.MinecraftConnection;
+import com.velocitypowered.proxy.connection.client.ConnectedPlayer;
+import com.velocitypowered.proxy.data.RawTextHolderProvider;
+import com.velocitypowered.proxy.scoreboard.downstream.DownstreamScoreboard;
+import io.netty.channel.AbstractEventLoop;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.objenesis.ObjenesisStd;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures allocations of the whole score update path with no event listeners: setting a score,
+ * running the update on the viewer's event loop, creating the packet, queueing it and draining
+ * the queue to the connection.
+ */
+class ScoreUpdateAllocationTest {
+
+    /** Amount of score holders updated in each round */
+    private static final int HOLDERS = 100;
+
+    /** Amount of rounds to run before measuring, so everything is created and the path gets compiled */
+    private static final int WARMUP_ROUNDS = 2_000;
+
+    /** Amount of measured rounds */
+    private static final int ROUNDS = 2_000;
+
+    /** Maximum amount of bytes allowed to be allocated while measuring, covering measurement noise */
+    private static final long ALLOCATION_TOLERANCE = 1024;
+
+    @BeforeAll
+    static void setUp() {
+        try {
+            new RawTextHolderProvider();
+        } catch (IllegalStateException ignored) {
+            // Already set by another test
+        }
+        OverloadController.setEnabled(false); // Lag probes are not needed and would schedule tasks
+        OutboundQueue.setCoalesceWhenUnwritable(false);
+        RedundantPacketFilter.setEnabled(true); // Recording sent state must not allocate either
+    }
+
+    @AfterAll
+    static void tearDown() {
+        OverloadController.setEnabled(true);
+        OutboundQueue.setCoalesceWhenUnwritable(true);
+        RedundantPacketFilter.setEnabled(false);
+    }
+
+    @Test
+    void scoreUpdatesDoNotAllocate() throws ReflectiveOperationException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        TaskEventLoop eventLoop = new TaskEventLoop();
+        CountingConnection connection = CountingConnection.create(eventLoop, ProtocolVersion.MAXIMUM_VERSION);
+        ConnectedPlayer viewer = new ObjenesisStd().newInstance(ConnectedPlayer.class);
+        Field connectionField = ConnectedPlayer.class.getDeclaredField("connection");
+        connectionField.setAccessible(true);
+        connectionField.set(viewer, connection);
+        ScoreboardEventSource eventSource = new ScoreboardEventSource() {
+
+            @Override
+            public void fireEvent(Object event) {
+            }
+
+            @Override
+            public boolean isFiringEvents(Class<?> eventClass) {
+                return false; // No listeners
+            }
+        };
+        VelocityScoreboard scoreboard = new VelocityScoreboard(eventSource, viewer, new DownstreamScoreboard(eventSource, viewer),
+                0, new InterestManager(), new PlaceholderEngine());
+        VelocityObjective objective = scoreboard.registerObjective(scoreboard.objectiveBuilder("objective").displaySlot(DisplaySlot.SIDEBAR));
+        eventLoop.runTasks();
+
+        String[] holders = new String[HOLDERS];
+        for (int i = 0; i < HOLDERS; i++) {
+            holders[i] = "holder" + i;
+        }
+        int value = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            updateRound(objective, holders, value++);
+            eventLoop.runTasks();
+        }
+
+        connection.written = 0;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int round = 0; round < ROUNDS; round++) {
+            updateRound(objective, holders, value++);
+            eventLoop.runTasks();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertEquals(ROUNDS * HOLDERS, connection.written, "Every score update should be written");
+        assertTrue(allocated < ALLOCATION_TOLERANCE, "Sending " + ROUNDS * HOLDERS + " score updates allocated " + allocated + " bytes");
+    }
+
+    private static void updateRound(VelocityObjective objective, String[] holders, int value) {
+        for (String holder : holders) {
+            objective.setScore(holder, value);
+        }
+    }
+
+    /**
+     * Event loop which is always the current thread and collects tasks until they are run
+     * by the test, without allocating for each task.
+     */
+    private static class TaskEventLoop extends AbstractEventLoop {
+
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        private void runTasks() {
+            Runnable task;
+            while ((task = tasks.pollFirst()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.addLast(task);
+        }
+
+        @Override
+        public boolean inEventLoop(Thread thread) {
+            return true;
+        }
+
+        @Override
+        public ChannelFuture register(Channel channel) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChannelFuture register(ChannelPromise promise) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @Deprecated
+        public ChannelFuture register(Channel channel, ChannelPromise promise) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isShuttingDown() {
+            return false;
+        }
+
+        @Override
+        public Future<?> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<?> terminationFuture() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @Deprecated
+        public void shutdown() {
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+    }
+
+    /**
+     * Connection counting written packets instead of writing them to a channel. Created without
+     * running the constructor, as nothing it initializes is used.
+     */
+    private static class CountingConnection extends MinecraftConnection {
+
+        private TaskEventLoop eventLoop;
+        private Channel channel;
+        private ProtocolVersion version;
+        private int written;
+
+        private CountingConnection() {
+            super(null, null);
+        }
+
+        private static CountingConnection create(TaskEventLoop eventLoop, ProtocolVersion version) {
+            CountingConnection connection = new ObjenesisStd().newInstance(CountingConnection.class);
+            connection.eventLoop = eventLoop;
+            connection.channel = mock(Channel.class);
+            connection.version = version;
+            return connection;
+        }
+
+        @Override
+        public TaskEventLoop eventLoop() {
+            return eventLoop;
+        }
+
+        @Override
+        public Channel getChannel() {
+            return channel;
+        }
+
+        @Override
+        public ProtocolVersion getProtocolVersion() {
+            return version;
+        }
+
+        @Override
+        public void delayedWrite(Object msg) {
+            written++;
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}